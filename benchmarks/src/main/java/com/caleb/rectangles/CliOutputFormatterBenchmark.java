@@ -0,0 +1,49 @@
+package com.caleb.rectangles;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesResponse;
+import com.caleb.rectangles.benchmarks.Scenario;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and average latency of rendering a full response as CLI tables. Lives in the root package to
+ * reach the package-private {@link CliOutputFormatter}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CliOutputFormatterBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    private final CliOutputFormatter formatter = new CliOutputFormatter();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+    private final PrintStream out = new PrintStream(bytes);
+    private RectanglesCollisionAttributesResponse response;
+
+    @Setup
+    public void setUp() {
+        var interactor = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder());
+        response = interactor.Execute(new RectanglesCollisionAttributesQuery(
+                scenario.rawData1(), scenario.rawData2(), true, true, true
+        ));
+    }
+
+    @Benchmark
+    public int print() {
+        bytes.reset();
+        formatter.print(response, out, out);
+        return bytes.size();
+    }
+}
@@ -0,0 +1,46 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery.RectangleRawData;
+import com.caleb.rectangles.benchmarks.Scenario;
+import com.caleb.rectangles.domain.Rectangle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and average latency of parsing raw string fields into a rectangle, including the invalid
+ * field path that builds error messages. Lives in the application package to reach the package-private
+ * {@link RectangleRawDataParser}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RectangleRawDataParserBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    private final RectangleRawDataParser parser = new RectangleRawDataParser();
+    private final RectangleRawData invalid = new RectangleRawData("0", "ten", "5", "-5");
+    private RectangleRawData rawData;
+
+    @Setup
+    public void setUp() {
+        rawData = scenario.rawData2();
+    }
+
+    @Benchmark
+    public Optional<Rectangle> parse() {
+        return parser.parse(rawData, "rectangle2", new HashMap<>());
+    }
+
+    @Benchmark
+    public Optional<Rectangle> parseInvalid() {
+        return parser.parse(invalid, "rectangle2", new HashMap<>());
+    }
+}
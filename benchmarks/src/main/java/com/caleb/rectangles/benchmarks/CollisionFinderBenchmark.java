@@ -0,0 +1,73 @@
+package com.caleb.rectangles.benchmarks;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.ClosedFormAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.domain.Vector2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and average latency of the single-pair domain operations for each {@link Scenario}.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionFinderBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    private final IntersectionFinder intersectionFinder = new IntersectionFinder();
+    private final AdjacencyFinder adjacencyFinder = new AdjacencyFinder();
+    private final ClosedFormAdjacencyFinder closedFormAdjacencyFinder = new ClosedFormAdjacencyFinder();
+    private final double[] intersectionSink = new double[IntersectionFinder.MAX_INTERSECTIONS * 2];
+    private Rectangle rectangle1;
+    private Rectangle rectangle2;
+
+    @Setup
+    public void setUp() {
+        rectangle1 = scenario.rectangle1();
+        rectangle2 = scenario.rectangle2();
+    }
+
+    @Benchmark
+    public Vector2[] intersections() {
+        return intersectionFinder.findAll(rectangle1, rectangle2);
+    }
+
+    @Benchmark
+    public int intersectionsIntoSink() {
+        return IntersectionFinder.findAll(
+                rectangle1.left(), rectangle1.right(), rectangle1.top(), rectangle1.bottom(),
+                rectangle2.left(), rectangle2.right(), rectangle2.top(), rectangle2.bottom(),
+                intersectionSink
+        );
+    }
+
+    @Benchmark
+    public Adjacency[] adjacency() {
+        return adjacencyFinder.findAll(rectangle1, rectangle2);
+    }
+
+    @Benchmark
+    public Adjacency[] closedFormAdjacency() {
+        return closedFormAdjacencyFinder.findAll(rectangle1, rectangle2);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return rectangle1.contains(rectangle2);
+    }
+
+    @Benchmark
+    public boolean overlaps() {
+        return rectangle1.overlaps(rectangle2);
+    }
+}
@@ -0,0 +1,52 @@
+package com.caleb.rectangles.benchmarks;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery.RectangleRawData;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+
+/**
+ * Rectangle pairs covering each kind of collision the finders distinguish. Rectangles are given as
+ * top-left x, top-left y, width and height.
+ */
+public enum Scenario {
+
+    DISJOINT(0.0, 10.0, 5.0, 5.0, 20.0, 10.0, 5.0, 5.0),
+    OVERLAPPING(0.0, 10.0, 5.0, 5.0, 3.0, 8.0, 5.0, 5.0),
+    NESTED(0.0, 10.0, 10.0, 10.0, 2.0, 8.0, 4.0, 4.0),
+    EDGE_TOUCHING(0.0, 10.0, 5.0, 5.0, 5.0, 8.0, 5.0, 2.0),
+    CORNER_TOUCHING(0.0, 10.0, 5.0, 5.0, 5.0, 5.0, 5.0, 5.0);
+
+    private final double[] fields;
+
+    Scenario(double... fields) {
+        this.fields = fields;
+    }
+
+    public Rectangle rectangle1() {
+        return rectangle(0);
+    }
+
+    public Rectangle rectangle2() {
+        return rectangle(4);
+    }
+
+    public RectangleRawData rawData1() {
+        return rawData(0);
+    }
+
+    public RectangleRawData rawData2() {
+        return rawData(4);
+    }
+
+    private Rectangle rectangle(int offset) {
+        return new Rectangle(new Vector2(fields[offset], fields[offset + 1]), new Size(fields[offset + 2], fields[offset + 3]));
+    }
+
+    private RectangleRawData rawData(int offset) {
+        return new RectangleRawData(
+                String.valueOf(fields[offset]), String.valueOf(fields[offset + 1]),
+                String.valueOf(fields[offset + 2]), String.valueOf(fields[offset + 3])
+        );
+    }
+}
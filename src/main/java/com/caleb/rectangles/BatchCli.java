@@ -0,0 +1,128 @@
+package com.caleb.rectangles;
+
+import com.caleb.rectangles.application.CollisionAttributesCache;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.batch.BatchFormat;
+import com.caleb.rectangles.batch.BatchRunner;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.metrics.InteractorMetrics;
+import com.caleb.rectangles.metrics.InteractorMetricsSnapshot;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+
+@Command(
+        name = "batch",
+        mixinStandardHelpOptions = true,
+        description = {
+                "Stream rectangle pairs from a file or stdin and write one NDJSON result per record.",
+                "CSV records are x1,y1,w1,h1,x2,y2,w2,h2. NDJSON records are objects with rectangle1Data and",
+                "rectangle2Data ({\"x\", \"y\", \"w\", \"h\"}) and optional queryIntersections, queryContainment",
+                "and queryAdjacency flags that override the command-line flags."
+        },
+        footer = {
+                "",
+                "Example:",
+                "  java -jar target/rectangles-0.1.0-SNAPSHOT-all.jar batch --format csv -i -c -a pairs.csv"
+        }
+)
+class BatchCli implements Callable<Integer> {
+
+    @Parameters(
+            index = "0",
+            arity = "0..1",
+            defaultValue = "-",
+            paramLabel = "INPUT",
+            description = "File to read records from, or - for stdin (default)."
+    )
+    String input;
+
+    @Option(
+            names = "--format",
+            defaultValue = "CSV",
+            description = "Input record format: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})."
+    )
+    BatchFormat format;
+
+    @Option(
+            names = "--cache-size",
+            defaultValue = "0",
+            description = "Cache results of up to this many relative rectangle configurations, 0 to disable (default: ${DEFAULT-VALUE})."
+    )
+    int cacheSize;
+
+    @Option(names = "--metrics", description = "Print the latency of each query stage and query counts to stderr when done.")
+    boolean metrics;
+
+    @Option(names = {"-i", "--intersections"}, description = "Find any intersection points.")
+    boolean intersections;
+
+    @Option(names = {"-c", "--containment"}, description = "Check if either rectangle contains the other (inclusive).")
+    boolean containment;
+
+    @Option(names = {"-a", "--adjacency"}, description = "Find any adjacent segments and their types.")
+    boolean adjacency;
+
+    @Override
+    public Integer call() throws IOException {
+        var interactorMetrics = metrics ? new InteractorMetrics() : null;
+        var interactor = new RectanglesCollisionAttributesInteractor(
+                new AdjacencyFinder(),
+                new IntersectionFinder(),
+                cacheSize > 0 ? new CollisionAttributesCache(cacheSize) : null,
+                interactorMetrics
+        );
+        var runner = new BatchRunner(interactor, format, new QueryFlags(intersections, containment, adjacency));
+        var output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (var stream = openInput()) {
+            var summary = runner.run(stream, output);
+            if (interactorMetrics != null) printMetrics(interactorMetrics.snapshot());
+            return summary.isSuccess() ? 0 : 1;
+        }
+    }
+
+    private static void printMetrics(InteractorMetricsSnapshot snapshot) {
+        System.err.printf("%-14s %10s %12s %12s %12s %12s%n", "stage", "count", "mean ns", "p50 ns", "p99 ns", "max ns");
+        for (var entry : snapshot.stages().entrySet()) {
+            var latency = entry.getValue();
+            System.err.printf("%-14s %10d %12.0f %12d %12d %12d%n",
+                    entry.getKey().name().toLowerCase(), latency.count(), latency.meanNanos(),
+                    latency.percentileNanos(50.0), latency.percentileNanos(99.0), latency.maxNanos());
+        }
+        System.err.printf("failed queries: %d%n", snapshot.failedQueries());
+        for (var entry : snapshot.errorsByKey().entrySet())
+            System.err.printf("  %s: %d%n", entry.getKey(), entry.getValue());
+        System.err.println("flag combinations:");
+        for (int i = 0; i < snapshot.flagCombinations().length; i++) {
+            if (snapshot.flagCombinations()[i] > 0)
+                System.err.printf("  %s: %d%n", InteractorMetrics.flagCombinationName(i), snapshot.flagCombinations()[i]);
+        }
+    }
+
+    /**
+     * Opens the input file, or wraps standard input in a stream whose close leaves it open, so the caller can close
+     * either one
+     * @return input stream
+     * @throws IOException if the file cannot be opened
+     */
+    private InputStream openInput() throws IOException {
+        if (input.equals("-")) return new FilterInputStream(System.in) {
+            @Override
+            public void close() {}
+        };
+        return Files.newInputStream(Path.of(input));
+    }
+}
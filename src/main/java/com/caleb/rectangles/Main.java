@@ -6,14 +6,19 @@ import com.caleb.rectangles.domain.operations.AdjacencyFinder;
 import com.caleb.rectangles.domain.operations.IntersectionFinder;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
 
 import java.util.concurrent.Callable;
 
 public class Main {
 
     public static void main(String[] args) {
-        int exitCode = new CommandLine(new RectanglesCli()).execute(args);
+        int exitCode = new CommandLine(new RectanglesCli())
+                .setCaseInsensitiveEnumValuesAllowed(true)
+                .execute(args);
         System.exit(exitCode);
     }
 
@@ -21,6 +26,7 @@ public class Main {
             name = "rectangles",
             mixinStandardHelpOptions = true,
             description = "Compute the attributes of intersection, containment, and adjacency between two rectangles.",
+            subcommands = { BatchCli.class, ServeCli.class },
             footer = {
                     "",
                     "Example:",
@@ -29,9 +35,13 @@ public class Main {
     )
     static class RectanglesCli implements Callable<Integer> {
 
+        @Spec
+        CommandSpec spec;
+
+        // --rect1 and --rect2 are checked in call() rather than marked required,
+        // since picocli would otherwise demand them for subcommands as well
         @Option(
                 names = "--rect1",
-                required = true,
                 arity = "4",
                 paramLabel = "_",
                 description = "Rectangle 1 as X Y W H (top-left x, top-left y, width, height)."
@@ -40,7 +50,6 @@ public class Main {
 
         @Option(
                 names = "--rect2",
-                required = true,
                 arity = "4",
                 paramLabel = "_",
                 description = "Rectangle 2 as X Y W H (top-left x, top-left y, width, height)."
@@ -58,6 +67,8 @@ public class Main {
 
         @Override
         public Integer call() {
+            if (rect1 == null || rect2 == null)
+                throw new ParameterException(spec.commandLine(), "Missing required options: '--rect1', '--rect2'");
             var interactor = new RectanglesCollisionAttributesInteractor(
                     new AdjacencyFinder(),
                     new IntersectionFinder()
@@ -0,0 +1,143 @@
+package com.caleb.rectangles;
+
+import com.caleb.rectangles.application.CollisionAttributesCache;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.metrics.InteractorMetrics;
+import com.caleb.rectangles.server.QueryServer;
+import com.caleb.rectangles.server.UnixSocketServer;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+
+@Command(
+        name = "serve",
+        mixinStandardHelpOptions = true,
+        description = {
+                "Serve collision queries over HTTP until the process is stopped.",
+                "POST /query takes one query object and POST /batch takes an array of them. Query objects have",
+                "rectangle1Data and rectangle2Data ({\"x\", \"y\", \"w\", \"h\"}) and optional queryIntersections,",
+                "queryContainment and queryAdjacency flags that override the command-line flags.",
+                "With --unix-socket, queries are served on a Unix domain socket using the binary protocol instead,",
+                "and each request carries its own flags."
+        },
+        footer = {
+                "",
+                "Example:",
+                "  java -jar target/rectangles-0.1.0-SNAPSHOT-all.jar serve --port 8080 -i -c -a",
+                "  java -jar target/rectangles-0.1.0-SNAPSHOT-all.jar serve --unix-socket /tmp/rectangles.sock"
+        }
+)
+class ServeCli implements Callable<Integer> {
+
+    @Option(names = "--host", defaultValue = "127.0.0.1", description = "Address to bind (default: ${DEFAULT-VALUE}).")
+    String host;
+
+    @Option(names = "--port", defaultValue = "8080", description = "Port to listen on (default: ${DEFAULT-VALUE}).")
+    int port;
+
+    @Option(
+            names = "--max-pending",
+            defaultValue = "" + QueryServer.DEFAULT_MAX_PENDING_REQUESTS,
+            description = "Requests handled at once before new ones are rejected with 503 (default: ${DEFAULT-VALUE}). " +
+                    "Requests in flight hold up to about 4 x --max-body x --max-pending bytes of heap."
+    )
+    int maxPending;
+
+    @Option(
+            names = "--max-body",
+            paramLabel = "BYTES",
+            defaultValue = "" + QueryServer.DEFAULT_MAX_BODY_BYTES,
+            description = "Largest accepted request body, larger bodies are rejected with 413 (default: ${DEFAULT-VALUE})."
+    )
+    int maxBody;
+
+    @Option(
+            names = "--unix-socket",
+            paramLabel = "PATH",
+            description = "Serve the binary protocol on a Unix domain socket at PATH instead of HTTP."
+    )
+    Path unixSocket;
+
+    @Option(
+            names = "--cache-size",
+            defaultValue = "0",
+            description = "Cache results of up to this many relative rectangle configurations, 0 to disable (default: ${DEFAULT-VALUE})."
+    )
+    int cacheSize;
+
+    @Option(
+            names = "--metrics",
+            description = "Record the latency of each query stage and query counts, readable over JMX as " +
+                    InteractorMetrics.DEFAULT_OBJECT_NAME + "."
+    )
+    boolean metrics;
+
+    @Option(names = {"-i", "--intersections"}, description = "Find any intersection points.")
+    boolean intersections;
+
+    @Option(names = {"-c", "--containment"}, description = "Check if either rectangle contains the other (inclusive).")
+    boolean containment;
+
+    @Option(names = {"-a", "--adjacency"}, description = "Find any adjacent segments and their types.")
+    boolean adjacency;
+
+    @Override
+    public Integer call() throws IOException, InterruptedException, JMException {
+        InteractorMetrics interactorMetrics = null;
+        if (metrics) {
+            interactorMetrics = new InteractorMetrics();
+            interactorMetrics.registerMBean(InteractorMetrics.DEFAULT_OBJECT_NAME);
+        }
+        var interactor = new RectanglesCollisionAttributesInteractor(
+                new AdjacencyFinder(),
+                new IntersectionFinder(),
+                cacheSize > 0 ? new CollisionAttributesCache(cacheSize) : null,
+                interactorMetrics
+        );
+        if (unixSocket != null) return serveUnixSocket(interactor);
+        var server = new QueryServer(
+                interactor,
+                new QueryFlags(intersections, containment, adjacency),
+                new InetSocketAddress(host, port),
+                maxPending,
+                maxBody
+        );
+        var stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            stopped.countDown();
+        }));
+        server.start();
+        System.out.printf("Listening on http://%s:%d%n", host, server.address().getPort());
+        stopped.await();
+        return 0;
+    }
+
+    private Integer serveUnixSocket(RectanglesCollisionAttributesInteractor interactor) throws IOException, InterruptedException {
+        var server = new UnixSocketServer(interactor, unixSocket);
+        var stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            }
+            catch (IOException err) {
+                System.err.println("Failed to remove " + unixSocket + ": " + err.getMessage());
+            }
+            stopped.countDown();
+        }));
+        server.start();
+        System.out.printf("Listening on %s%n", unixSocket);
+        stopped.await();
+        return 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.caleb.rectangles.application;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses doubles straight from ASCII bytes, accepting and rejecting exactly the text that
+ * {@link Double#parseDouble(String)} would. Plain decimals such as {@code -12.5} or {@code 3e4} whose
+ * digits fit in 2^53 and whose power of ten is at most 22 take a fast path: both the digits and the power
+ * of ten are exact doubles, so a single multiplication or division gives the correctly rounded result.
+ * Everything else, including invalid text, is handed to {@link Double#parseDouble(String)}.
+ */
+public final class AsciiDoubleParser {
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final int MAX_EXPONENT_DIGITS = 4;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_POWER_OF_TEN + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+    }
+
+    private AsciiDoubleParser() {}
+
+    /**
+     * Parses the bytes in [from, to) as a double
+     * @param bytes
+     * @param from first byte, inclusive
+     * @param to last byte, exclusive
+     * @return parsed value
+     * @throws NumberFormatException if {@link Double#parseDouble(String)} would reject the text
+     */
+    public static double parse(byte[] bytes, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && (bytes[start] & 0xFF) <= ' ') start++;
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') end--;
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) negative = bytes[i++] == '-';
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        for (; i < end; i++) {
+            int b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa > MAX_EXACT_MANTISSA) return parseSlowly(bytes, from, to);
+                digits++;
+                if (inFraction) fractionDigits++;
+            }
+            else if (b == '.' && !inFraction) {
+                inFraction = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (digits == 0) return parseSlowly(bytes, from, to);
+
+        int exponent = 0;
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) negativeExponent = bytes[i++] == '-';
+            int exponentDigits = 0;
+            for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                if (++exponentDigits > MAX_EXPONENT_DIGITS) return parseSlowly(bytes, from, to);
+                exponent = exponent * 10 + (bytes[i] - '0');
+            }
+            if (exponentDigits == 0) return parseSlowly(bytes, from, to);
+            if (negativeExponent) exponent = -exponent;
+        }
+        if (i != end) return parseSlowly(bytes, from, to);
+
+        int powerOfTen = exponent - fractionDigits;
+        if (powerOfTen < -MAX_EXACT_POWER_OF_TEN || powerOfTen > MAX_EXACT_POWER_OF_TEN)
+            return parseSlowly(bytes, from, to);
+        double value = powerOfTen >= 0 ?
+                (double) mantissa * POWERS_OF_TEN[powerOfTen] :
+                (double) mantissa / POWERS_OF_TEN[-powerOfTen];
+        return negative ? -value : value;
+    }
+
+    private static double parseSlowly(byte[] bytes, int from, int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,190 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesResponse.*;
+
+/**
+ * Bounded least-recently-used cache of collision attributes, keyed on the rectangle pair translated so that
+ * rect1's top-left corner is the origin. Pairs with the same sizes and relative offset share an entry, and
+ * cached intersection points and adjacency segments are translated back on a hit.
+ * <p>
+ * The finders only compare edges and return edge values, so a translated pair gives translated results as
+ * long as the translation neither rounds an edge nor changes how any two edges compare. Pairs where it
+ * would, including any with non-finite edges, bypass the cache and are computed directly, so results are
+ * always bitwise identical to the uncached path.
+ */
+public class CollisionAttributesCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, RectangleCollisionAttributes> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+
+    /**
+     * @param maxEntries number of entries kept before the least recently used one is evicted
+     */
+    public CollisionAttributesCache(int maxEntries) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries must be positive");
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, RectangleCollisionAttributes> eldest) {
+                return size() > CollisionAttributesCache.this.maxEntries;
+            }
+        };
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of lookups computed directly because translating the pair would not be exact
+     */
+    public long bypasses() {
+        return bypasses.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the attributes of the pair from the cache, computing and caching them in the normalized frame
+     * on a miss
+     * @param rect1
+     * @param rect2
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @param compute computes the attributes of a pair
+     * @return attributes of the pair in its original position
+     */
+    RectangleCollisionAttributes getOrCompute(
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            BiFunction<Rectangle, Rectangle, RectangleCollisionAttributes> compute
+    ) {
+        double offsetX = rect1.topLeft().x();
+        double offsetY = rect1.topLeft().y();
+        var normalized1 = new Rectangle(new Vector2(0.0, 0.0), rect1.size());
+        var normalized2 = new Rectangle(
+                new Vector2(rect2.topLeft().x() - offsetX, rect2.topLeft().y() - offsetY), rect2.size()
+        );
+        if (!translatesExactly(rect1, rect2, normalized1, normalized2, offsetX, offsetY)) {
+            bypasses.increment();
+            return compute.apply(rect1, rect2);
+        }
+
+        var key = new Key(
+                rect1.size(), normalized2.topLeft(), rect2.size(),
+                queryIntersections, queryContainment, queryAdjacency
+        );
+        RectangleCollisionAttributes attributes;
+        synchronized (this) {
+            attributes = entries.get(key);
+        }
+        if (attributes != null) {
+            hits.increment();
+        }
+        else {
+            misses.increment();
+            attributes = compute.apply(normalized1, normalized2);
+            synchronized (this) {
+                entries.put(key, attributes);
+            }
+        }
+        return translate(attributes, offsetX, offsetY);
+    }
+
+    private static boolean translatesExactly(
+            Rectangle rect1, Rectangle rect2, Rectangle normalized1, Rectangle normalized2,
+            double offsetX, double offsetY
+    ) {
+        return axisTranslatesExactly(
+                new double[] { rect1.left(), rect1.right(), rect2.left(), rect2.right() },
+                new double[] { normalized1.left(), normalized1.right(), normalized2.left(), normalized2.right() },
+                offsetX
+        ) && axisTranslatesExactly(
+                new double[] { rect1.top(), rect1.bottom(), rect2.top(), rect2.bottom() },
+                new double[] { normalized1.top(), normalized1.bottom(), normalized2.top(), normalized2.bottom() },
+                offsetY
+        );
+    }
+
+    /**
+     * Checks that every normalized edge translates back to exactly its original value and that every pair of
+     * edges on the axis compares the same way in both frames, under both == and {@link Double#compare}
+     */
+    private static boolean axisTranslatesExactly(double[] edges, double[] normalizedEdges, double offset) {
+        for (int i = 0; i < edges.length; i++) {
+            if (!Double.isFinite(edges[i]) || !Double.isFinite(normalizedEdges[i])) return false;
+            if (Double.compare(normalizedEdges[i] + offset, edges[i]) != 0) return false;
+            for (int j = 0; j < i; j++) {
+                if (Integer.signum(Double.compare(edges[i], edges[j])) !=
+                        Integer.signum(Double.compare(normalizedEdges[i], normalizedEdges[j])))
+                    return false;
+                if ((edges[i] == edges[j]) != (normalizedEdges[i] == normalizedEdges[j])) return false;
+            }
+        }
+        return true;
+    }
+
+    private static RectangleCollisionAttributes translate(
+            RectangleCollisionAttributes attributes, double offsetX, double offsetY
+    ) {
+        Vector2[] intersections = null;
+        Adjacency[] adjacencyList = null;
+        var points = attributes.intersections();
+        if (points != null) {
+            intersections = new Vector2[points.length];
+            for (int i = 0; i < points.length; i++)
+                intersections[i] = new Vector2(points[i].x() + offsetX, points[i].y() + offsetY);
+        }
+        var adjacencies = attributes.adjacencyList();
+        if (adjacencies != null) {
+            adjacencyList = new Adjacency[adjacencies.length];
+            for (int i = 0; i < adjacencies.length; i++)
+                adjacencyList[i] = new Adjacency(adjacencies[i].type(), translate(adjacencies[i].segment(), offsetX, offsetY));
+        }
+        return new RectangleCollisionAttributes(intersections, attributes.containmentInfo(), adjacencyList);
+    }
+
+    private static LineSegment translate(LineSegment segment, double offsetX, double offsetY) {
+        boolean constantIsX = segment.axis() == LineSegment.OrthogonalAxis.X;
+        double constantOffset = constantIsX ? offsetX : offsetY;
+        double boundsOffset = constantIsX ? offsetY : offsetX;
+        return new LineSegment(
+                segment.axis(),
+                segment.constant() + constantOffset,
+                new LineSegment.ParallelAxisBounds(
+                        segment.bounds().lower() + boundsOffset,
+                        segment.bounds().upper() + boundsOffset
+                )
+        );
+    }
+
+    private record Key(
+            Size size1, Vector2 relativeTopLeft2, Size size2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency
+    ) {}
+}
@@ -0,0 +1,65 @@
+package com.caleb.rectangles.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for one query of the collision attributes interactor. The event duration covers the
+ * whole query; stages that were not run have a duration of zero.
+ */
+@Name("com.caleb.rectangles.CollisionQuery")
+@Label("Collision Query")
+@Category({"Rectangles", "Queries"})
+@Description("One query of the collision attributes interactor")
+@Enabled(false)
+@StackTrace(false)
+class CollisionQueryEvent extends jdk.jfr.Event {
+
+    @Label("Query Intersections")
+    boolean queryIntersections;
+
+    @Label("Query Containment")
+    boolean queryContainment;
+
+    @Label("Query Adjacency")
+    boolean queryAdjacency;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Lazy")
+    @Description("Attributes are computed when first read, after the event, so counts and stage durations are not recorded")
+    boolean lazy;
+
+    @Label("Intersections Found")
+    int intersections;
+
+    @Label("Adjacencies Found")
+    int adjacencies;
+
+    @Label("Parse Duration")
+    @Timespan
+    long parseDuration;
+
+    @Label("Intersections Duration")
+    @Timespan
+    long intersectionsDuration;
+
+    @Label("Containment Duration")
+    @Timespan
+    long containmentDuration;
+
+    @Label("Adjacency Duration")
+    @Timespan
+    long adjacencyDuration;
+
+    @Label("Fused Duration")
+    @Description("Time to find every requested attribute in one pass, used instead of the separate stages when several flags are set")
+    @Timespan
+    long fusedDuration;
+}
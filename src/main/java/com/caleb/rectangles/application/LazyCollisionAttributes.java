@@ -0,0 +1,108 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.IAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IIntersectionFinder;
+import com.caleb.rectangles.metrics.InteractorMetrics.Stage;
+import org.jetbrains.annotations.Nullable;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesResponse.*;
+
+/**
+ * Collision attributes that are computed on first access rather than when the query is executed, so attributes
+ * that are queried but never read cost nothing. Each queried attribute is computed at most once, even when it is
+ * first read by several threads at the same time, and later reads return the same value. Attributes that were not
+ * queried are null, as for eager attributes.
+ */
+final class LazyCollisionAttributes extends RectangleCollisionAttributes {
+
+    private final Rectangle rect1;
+    private final Rectangle rect2;
+    @Nullable
+    private final IIntersectionFinder intersectionFinder;
+    private final boolean queryContainment;
+    @Nullable
+    private final IAdjacencyFinder adjacencyFinder;
+    private final QueryRecorder recorder;
+
+    @Nullable
+    private volatile Vector2[] intersections;
+    @Nullable
+    private volatile ContainmentInfo containmentInfo;
+    @Nullable
+    private volatile Adjacency[] adjacencyList;
+
+    /**
+     * @param rect1
+     * @param rect2
+     * @param intersectionFinder finds the intersections on first access, or null if they were not queried
+     * @param queryContainment
+     * @param adjacencyFinder finds the adjacency on first access, or null if it was not queried
+     * @param recorder records the latency of each attribute when it is computed
+     */
+    LazyCollisionAttributes(
+            Rectangle rect1, Rectangle rect2,
+            @Nullable IIntersectionFinder intersectionFinder,
+            boolean queryContainment,
+            @Nullable IAdjacencyFinder adjacencyFinder,
+            QueryRecorder recorder
+    ) {
+        super(null, null, null);
+        this.rect1 = rect1;
+        this.rect2 = rect2;
+        this.intersectionFinder = intersectionFinder;
+        this.queryContainment = queryContainment;
+        this.adjacencyFinder = adjacencyFinder;
+        this.recorder = recorder;
+    }
+
+    @Override
+    @Nullable
+    Vector2[] intersections() {
+        if (intersectionFinder == null) return null;
+        var value = intersections;
+        if (value != null) return value;
+        synchronized (this) {
+            if (intersections == null) {
+                long start = recorder.startStage();
+                intersections = intersectionFinder.findAll(rect1, rect2);
+                recorder.endStage(Stage.INTERSECTIONS, start);
+            }
+            return intersections;
+        }
+    }
+
+    @Override
+    @Nullable
+    ContainmentInfo containmentInfo() {
+        if (!queryContainment) return null;
+        var value = containmentInfo;
+        if (value != null) return value;
+        synchronized (this) {
+            if (containmentInfo == null) {
+                long start = recorder.startStage();
+                containmentInfo = new ContainmentInfo(rect1.contains(rect2), rect2.contains(rect1));
+                recorder.endStage(Stage.CONTAINMENT, start);
+            }
+            return containmentInfo;
+        }
+    }
+
+    @Override
+    @Nullable
+    Adjacency[] adjacencyList() {
+        if (adjacencyFinder == null) return null;
+        var value = adjacencyList;
+        if (value != null) return value;
+        synchronized (this) {
+            if (adjacencyList == null) {
+                long start = recorder.startStage();
+                adjacencyList = adjacencyFinder.findAll(rect1, rect2);
+                recorder.endStage(Stage.ADJACENCY, start);
+            }
+            return adjacencyList;
+        }
+    }
+}
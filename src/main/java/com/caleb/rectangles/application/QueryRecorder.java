@@ -0,0 +1,95 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.metrics.InteractorMetrics;
+import com.caleb.rectangles.metrics.InteractorMetrics.Stage;
+import org.jetbrains.annotations.Nullable;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesResponse.RectangleCollisionAttributes;
+
+/**
+ * Times the stages of one query for {@link InteractorMetrics} and the {@link CollisionQueryEvent}. Queries with
+ * neither metrics nor an enabled event share {@link #NONE}, which never reads the clock.
+ */
+final class QueryRecorder {
+
+    static final QueryRecorder NONE = new QueryRecorder(null, null, 0L);
+
+    @Nullable
+    private final InteractorMetrics metrics;
+    @Nullable
+    private final CollisionQueryEvent event;
+    private final long start;
+
+    private QueryRecorder(@Nullable InteractorMetrics metrics, @Nullable CollisionQueryEvent event, long start) {
+        this.metrics = metrics;
+        this.event = event;
+        this.start = start;
+    }
+
+    /**
+     * Starts timing a query
+     * @param metrics metrics to record into, or null
+     * @return recorder for the query
+     */
+    static QueryRecorder begin(@Nullable InteractorMetrics metrics) {
+        var event = new CollisionQueryEvent();
+        if (event.isEnabled())
+            event.begin();
+        else if (metrics == null)
+            return NONE;
+        else
+            event = null;
+        return new QueryRecorder(metrics, event, System.nanoTime());
+    }
+
+    long startStage() {
+        return this == NONE ? 0L : System.nanoTime();
+    }
+
+    void endStage(Stage stage, long stageStart) {
+        if (this == NONE) return;
+        long nanos = System.nanoTime() - stageStart;
+        if (metrics != null) metrics.record(stage, nanos);
+        if (event == null) return;
+        switch (stage) {
+            case PARSE -> event.parseDuration = nanos;
+            case INTERSECTIONS -> event.intersectionsDuration = nanos;
+            case CONTAINMENT -> event.containmentDuration = nanos;
+            case ADJACENCY -> event.adjacencyDuration = nanos;
+            case FUSED -> event.fusedDuration = nanos;
+            case TOTAL -> {}
+        }
+    }
+
+    /**
+     * Finishes timing the query, recording its flags and outcome
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @param response
+     * @return response, unchanged
+     */
+    RectanglesCollisionAttributesResponse end(
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            RectanglesCollisionAttributesResponse response
+    ) {
+        if (this == NONE) return response;
+        if (metrics != null)
+            metrics.recordQuery(queryIntersections, queryContainment, queryAdjacency,
+                    response.errors(), System.nanoTime() - start);
+        if (event != null && event.shouldCommit()) {
+            RectangleCollisionAttributes attributes = response.attributes();
+            event.queryIntersections = queryIntersections;
+            event.queryContainment = queryContainment;
+            event.queryAdjacency = queryAdjacency;
+            event.success = response.isSuccess();
+            event.lazy = attributes instanceof LazyCollisionAttributes;
+            if (!event.lazy) {
+                event.intersections = attributes.intersections() == null ? 0 : attributes.intersections().length;
+                event.adjacencies = attributes.adjacencyList() == null ? 0 : attributes.adjacencyList().length;
+            }
+            event.commit();
+        }
+        return response;
+    }
+}
@@ -5,7 +5,6 @@ import com.caleb.rectangles.domain.Rectangle;
 import com.caleb.rectangles.domain.Size;
 import com.caleb.rectangles.domain.Vector2;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +23,8 @@ class RectangleRawDataParser {
             new RectangleFieldInfo(".size.height", "height")
     };
 
+    static final int FIELD_COUNT = 4;
+
     /**
      * Attempts to parse string fields as doubles for a rectangle object
      * @param rectangleRawData
@@ -35,32 +36,45 @@ class RectangleRawDataParser {
             RectangleRawData rectangleRawData, String rectangleName,
             HashMap<String, String[]> errors
     ) {
-        var rectangleFields = getRectangleFields(rectangleRawData, rectangleName, errors);
-        return getRectangleOrEmpty(rectangleName, errors, rectangleFields);
-    }
-
-    private ArrayList<Double> getRectangleFields(RectangleRawData rectangleRawData, String rectangleName, HashMap<String, String[]> errors) {
-        int i = 0;
-        var rectangleFields = new ArrayList<Double>();
-        for (RectangleFieldInfo info : rectFieldInfos) {
+        var fields = new double[FIELD_COUNT];
+        int invalidFields = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
             try {
-                var value = Double.parseDouble(rectangleRawData.fieldAt(i++));
-                rectangleFields.add(value);
+                fields[i] = Double.parseDouble(rectangleRawData.fieldAt(i));
             }
             catch (NumberFormatException err) {
-                errors.put(rectangleName + info.fieldSuffix,
-                formattedErrorMessage(rectangleName, info.friendlyName));
+                invalidFields |= 1 << i;
             }
         }
-        return rectangleFields;
+        return toRectangle(fields, 0, invalidFields, rectangleName, errors);
     }
 
-    private static Optional<Rectangle> getRectangleOrEmpty(String rectangleName, HashMap<String, String[]> errors, ArrayList<Double> rectangleFields) {
-        if (rectangleFields.size() != 4) return Optional.empty();
+    /**
+     * Builds a rectangle from four already parsed fields, recording an error for each field that could not
+     * be parsed or that violates the rectangle invariants
+     * @param fields
+     * @param offset index of the rectangle's x field
+     * @param invalidFields bit i is set if field offset + i could not be parsed
+     * @param rectangleName
+     * @param errors
+     * @return rectangle or empty
+     */
+    static Optional<Rectangle> toRectangle(
+            double[] fields, int offset, int invalidFields, String rectangleName,
+            HashMap<String, String[]> errors
+    ) {
+        if (invalidFields != 0) {
+            for (int i = 0; i < FIELD_COUNT; i++) {
+                if ((invalidFields & (1 << i)) == 0) continue;
+                var info = rectFieldInfos[i];
+                errors.put(rectangleName + info.fieldSuffix, formattedErrorMessage(rectangleName, info.friendlyName));
+            }
+            return Optional.empty();
+        }
         try {
             var rectangle = new Rectangle(
-                    new Vector2(rectangleFields.get(0), rectangleFields.get(1)),
-                    new Size(rectangleFields.get(2), rectangleFields.get(3))
+                    new Vector2(fields[offset], fields[offset + 1]),
+                    new Size(fields[offset + 2], fields[offset + 3])
             );
             return Optional.of(rectangle);
         }
@@ -79,7 +93,7 @@ class RectangleRawDataParser {
         errors.putAll(prefixedMap);
     }
 
-    private String[] formattedErrorMessage(String rectangleName, String friendlyName) {
+    private static String[] formattedErrorMessage(String rectangleName, String friendlyName) {
 
         return new String[] {
                 String.format("The %s of %s is not a number", friendlyName, rectangleName)
@@ -1,26 +1,74 @@
 package com.caleb.rectangles.application;
 
 import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
 import com.caleb.rectangles.domain.Vector2;
 import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.ClosedFormAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.FusedCollisionAttributesFinder;
 import com.caleb.rectangles.domain.operations.IAdjacencyFinder;
 import com.caleb.rectangles.domain.operations.IIntersectionFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.metrics.InteractorMetrics;
+import com.caleb.rectangles.metrics.InteractorMetrics.Stage;
+import org.jetbrains.annotations.Nullable;
 
 import static com.caleb.rectangles.application.RectanglesCollisionAttributesResponse.*;
 
 import java.util.HashMap;
+import java.util.Map;
 
 public class RectanglesCollisionAttributesInteractor {
 
     private final IAdjacencyFinder adjacencyFinder;
     private final IIntersectionFinder intersectionFinder;
+    @Nullable
+    private final FusedCollisionAttributesFinder fusedFinder;
+    @Nullable
+    private final CollisionAttributesCache cache;
+    @Nullable
+    private final InteractorMetrics metrics;
 
     public RectanglesCollisionAttributesInteractor(
             IAdjacencyFinder adjacencyFinder,
             IIntersectionFinder intersectionFinder
+    ) {
+        this(adjacencyFinder, intersectionFinder, null);
+    }
+
+    /**
+     * @param adjacencyFinder
+     * @param intersectionFinder
+     * @param cache results cache, or null to compute every query; only valid with finders that depend on
+     *              nothing but how edges compare, as the stock finders do
+     */
+    public RectanglesCollisionAttributesInteractor(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder,
+            @Nullable CollisionAttributesCache cache
+    ) {
+        this(adjacencyFinder, intersectionFinder, cache, null);
+    }
+
+    /**
+     * @param adjacencyFinder
+     * @param intersectionFinder
+     * @param cache results cache, or null to compute every query
+     * @param metrics records the latency of each stage and counts queries, or null to record nothing
+     */
+    public RectanglesCollisionAttributesInteractor(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder,
+            @Nullable CollisionAttributesCache cache,
+            @Nullable InteractorMetrics metrics
     ) {
         this.adjacencyFinder = adjacencyFinder;
         this.intersectionFinder = intersectionFinder;
+        this.fusedFinder = areStockFinders(adjacencyFinder, intersectionFinder) ?
+                new FusedCollisionAttributesFinder() : null;
+        this.cache = cache;
+        this.metrics = metrics;
     }
 
     /**
@@ -32,40 +80,229 @@ public class RectanglesCollisionAttributesInteractor {
     public RectanglesCollisionAttributesResponse Execute(
             RectanglesCollisionAttributesQuery query
     ) {
+        return execute(query, false);
+    }
+
+    /**
+     * Same as {@link #Execute(RectanglesCollisionAttributesQuery)}, except that each queried attribute is only
+     * computed when it is first read from the response, so attributes that are never read cost nothing. Reading
+     * the attributes is thread-safe, and each one is computed at most once. Lazy queries do not use the cache.
+     * @param query
+     * @return relevant collision attributes of the two rectangles, computed on first access
+     */
+    public RectanglesCollisionAttributesResponse ExecuteLazily(
+            RectanglesCollisionAttributesQuery query
+    ) {
+        return execute(query, true);
+    }
+
+    /**
+     * Same as {@link #Execute(Rectangle, Rectangle, boolean, boolean, boolean)}, except that each queried attribute
+     * is only computed when it is first read from the response, as for
+     * {@link #ExecuteLazily(RectanglesCollisionAttributesQuery)}
+     * @param rect1
+     * @param rect2
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @return relevant collision attributes of the two rectangles, computed on first access
+     */
+    public RectanglesCollisionAttributesResponse ExecuteLazily(
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency
+    ) {
+        return execute(rect1, rect2, queryIntersections, queryContainment, queryAdjacency,
+                QueryRecorder.begin(metrics), true);
+    }
+
+    private RectanglesCollisionAttributesResponse execute(RectanglesCollisionAttributesQuery query, boolean lazily) {
+        var recorder = QueryRecorder.begin(metrics);
+        long parseStart = recorder.startStage();
         var errors = new HashMap<String, String[]>();
         ensureAtLeastOneFlagIsSet(query, errors);
         var rectangleParser = new RectangleRawDataParser();
         var rect1Optional = rectangleParser.parse(query.rectangle1Data(), "rectangle1", errors);
         var rect2Optional = rectangleParser.parse(query.rectangle2Data(), "rectangle2", errors);
+        recorder.endStage(Stage.PARSE, parseStart);
         var thereAreErrorsOrOneOfTheRectanglesAreMissing =
                 !errors.isEmpty() || rect1Optional.isEmpty() || rect2Optional.isEmpty();
-        if (thereAreErrorsOrOneOfTheRectanglesAreMissing) return errorResponse(errors);
+        if (thereAreErrorsOrOneOfTheRectanglesAreMissing)
+            return recorder.end(query.queryIntersections(), query.queryContainment(), query.queryAdjacency(),
+                    errorResponse(errors));
         var rect1 = rect1Optional.get();
         var rect2 = rect2Optional.get();
-        var attributes = getCollisionAttributes(query, rect1, rect2);
-        return new RectanglesCollisionAttributesResponse(
+        var attributes = getCollisionAttributes(
+                rect1, rect2, query.queryIntersections(), query.queryContainment(), query.queryAdjacency(),
+                recorder, lazily
+        );
+        var response = new RectanglesCollisionAttributesResponse(
             errors, attributes, new Rectangles(rect1, rect2)
         );
+        return recorder.end(query.queryIntersections(), query.queryContainment(), query.queryAdjacency(), response);
+    }
+
+    /**
+     * Same as {@link #Execute(RectanglesCollisionAttributesQuery)} for rectangles that are already constructed,
+     * skipping the parsing of raw string fields
+     * @param rect1
+     * @param rect2
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @return relevant collision attributes of the two rectangles
+     */
+    public RectanglesCollisionAttributesResponse Execute(
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency
+    ) {
+        return execute(rect1, rect2, queryIntersections, queryContainment, queryAdjacency,
+                QueryRecorder.begin(metrics), false);
+    }
+
+    /**
+     * Same as {@link #Execute(RectanglesCollisionAttributesQuery)} for the eight fields x1, y1, w1, h1, x2, y2,
+     * w2, h2 given as ASCII text, parsed without building strings. Errors are only built when a query fails,
+     * and have the same keys and messages as for string fields.
+     * @param bytes
+     * @param fieldBounds start (inclusive) and end (exclusive) of each field, so 16 offsets into bytes
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @return relevant collision attributes of the two rectangles
+     */
+    public RectanglesCollisionAttributesResponse Execute(
+            byte[] bytes, int[] fieldBounds,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency
+    ) {
+        var recorder = QueryRecorder.begin(metrics);
+        long parseStart = recorder.startStage();
+        var fields = new double[2 * RectangleRawDataParser.FIELD_COUNT];
+        int invalidFields = 0;
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                fields[i] = AsciiDoubleParser.parse(bytes, fieldBounds[2 * i], fieldBounds[2 * i + 1]);
+            }
+            catch (NumberFormatException err) {
+                invalidFields |= 1 << i;
+            }
+        }
+        var fieldsAreValid = invalidFields == 0 &&
+                fields[2] > 0 && fields[3] > 0 && fields[6] > 0 && fields[7] > 0;
+        if (fieldsAreValid) {
+            var rect1 = new Rectangle(new Vector2(fields[0], fields[1]), new Size(fields[2], fields[3]));
+            var rect2 = new Rectangle(new Vector2(fields[4], fields[5]), new Size(fields[6], fields[7]));
+            recorder.endStage(Stage.PARSE, parseStart);
+            return execute(rect1, rect2, queryIntersections, queryContainment, queryAdjacency, recorder, false);
+        }
+
+        var errors = new HashMap<String, String[]>();
+        ensureAtLeastOneFlagIsSet(queryIntersections, queryContainment, queryAdjacency, errors);
+        var rect1Optional = RectangleRawDataParser.toRectangle(fields, 0, invalidFields & 0xF, "rectangle1", errors);
+        var rect2Optional = RectangleRawDataParser.toRectangle(fields, 4, invalidFields >>> 4, "rectangle2", errors);
+        recorder.endStage(Stage.PARSE, parseStart);
+        if (!errors.isEmpty() || rect1Optional.isEmpty() || rect2Optional.isEmpty())
+            return recorder.end(queryIntersections, queryContainment, queryAdjacency, errorResponse(errors));
+        return execute(
+                rect1Optional.get(), rect2Optional.get(), queryIntersections, queryContainment, queryAdjacency,
+                recorder, false
+        );
+    }
+
+    private RectanglesCollisionAttributesResponse execute(
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            QueryRecorder recorder, boolean lazily
+    ) {
+        if (!queryIntersections && !queryContainment && !queryAdjacency) {
+            var errors = new HashMap<String, String[]>();
+            ensureAtLeastOneFlagIsSet(queryIntersections, queryContainment, queryAdjacency, errors);
+            return recorder.end(queryIntersections, queryContainment, queryAdjacency, errorResponse(errors));
+        }
+        var attributes = getCollisionAttributes(
+                rect1, rect2, queryIntersections, queryContainment, queryAdjacency, recorder, lazily
+        );
+        var response = new RectanglesCollisionAttributesResponse(
+            Map.of(), attributes, new Rectangles(rect1, rect2)
+        );
+        return recorder.end(queryIntersections, queryContainment, queryAdjacency, response);
     }
 
     private RectangleCollisionAttributes getCollisionAttributes(
-            RectanglesCollisionAttributesQuery query, Rectangle rect1, Rectangle rect2
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            QueryRecorder recorder, boolean lazily
+    ) {
+        if (lazily)
+            return new LazyCollisionAttributes(
+                    rect1, rect2,
+                    queryIntersections ? intersectionFinder : null,
+                    queryContainment,
+                    queryAdjacency ? adjacencyFinder : null,
+                    recorder
+            );
+        if (cache == null)
+            return computeCollisionAttributes(
+                    rect1, rect2, queryIntersections, queryContainment, queryAdjacency, recorder
+            );
+        return cache.getOrCompute(
+                rect1, rect2, queryIntersections, queryContainment, queryAdjacency,
+                (r1, r2) -> computeCollisionAttributes(r1, r2, queryIntersections, queryContainment, queryAdjacency, recorder)
+        );
+    }
+
+    private RectangleCollisionAttributes computeCollisionAttributes(
+            Rectangle rect1, Rectangle rect2,
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            QueryRecorder recorder
     ) {
+        var severalFlagsAreSet = queryIntersections ? queryContainment || queryAdjacency : queryContainment && queryAdjacency;
+        if (fusedFinder != null && severalFlagsAreSet) {
+            long start = recorder.startStage();
+            var attributes = fusedFinder.findAll(rect1, rect2, queryIntersections, queryContainment, queryAdjacency);
+            recorder.endStage(Stage.FUSED, start);
+            var containmentInfo = queryContainment ?
+                    new ContainmentInfo(attributes.rect1ContainsRect2(), attributes.rect2ContainsRect1()) : null;
+            return new RectangleCollisionAttributes(
+                    queryIntersections ? attributes.intersections() : null,
+                    containmentInfo,
+                    queryAdjacency ? attributes.adjacencyList() : null
+            );
+        }
         Vector2[] intersections = null;
         ContainmentInfo containmentInfo = null;
         Adjacency[] adjacencyList = null;
-        if (query.queryIntersections())
+        if (queryIntersections) {
+            long start = recorder.startStage();
             intersections = intersectionFinder.findAll(rect1, rect2);
-        if (query.queryContainment())
+            recorder.endStage(Stage.INTERSECTIONS, start);
+        }
+        if (queryContainment) {
+            long start = recorder.startStage();
             containmentInfo = new ContainmentInfo(
                     rect1.contains(rect2),
                     rect2.contains(rect1)
             );
-        if (query.queryAdjacency())
+            recorder.endStage(Stage.CONTAINMENT, start);
+        }
+        if (queryAdjacency) {
+            long start = recorder.startStage();
             adjacencyList = adjacencyFinder.findAll(rect1, rect2);
+            recorder.endStage(Stage.ADJACENCY, start);
+        }
         return new RectangleCollisionAttributes(intersections, containmentInfo, adjacencyList);
     }
 
+    /**
+     * The fused finder gives the same results as the stock finders only, so queries made with any other
+     * finder always go through the finders themselves
+     */
+    private static boolean areStockFinders(IAdjacencyFinder adjacencyFinder, IIntersectionFinder intersectionFinder) {
+        var adjacencyFinderIsStock = adjacencyFinder != null && (adjacencyFinder.getClass() == AdjacencyFinder.class ||
+                adjacencyFinder.getClass() == ClosedFormAdjacencyFinder.class);
+        return adjacencyFinderIsStock && intersectionFinder != null &&
+                intersectionFinder.getClass() == IntersectionFinder.class;
+    }
+
     private static RectanglesCollisionAttributesResponse errorResponse(HashMap<String, String[]> errors) {
         return new RectanglesCollisionAttributesResponse(
                 errors, RectangleCollisionAttributes.EMPTY, Rectangles.NONE
@@ -73,8 +310,14 @@ public class RectanglesCollisionAttributesInteractor {
     }
 
     private static void ensureAtLeastOneFlagIsSet(RectanglesCollisionAttributesQuery query, HashMap<String, String[]> errors) {
-        if (!query.queryIntersections() && !query.queryContainment() &&
-                !query.queryAdjacency())
+        ensureAtLeastOneFlagIsSet(query.queryIntersections(), query.queryContainment(), query.queryAdjacency(), errors);
+    }
+
+    private static void ensureAtLeastOneFlagIsSet(
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            HashMap<String, String[]> errors
+    ) {
+        if (!queryIntersections && !queryContainment && !queryAdjacency)
             errors.put("queryFlags", new String[] { "At least one query flag must be set" });
     }
 }
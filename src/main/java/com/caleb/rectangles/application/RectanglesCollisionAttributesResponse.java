@@ -25,18 +25,18 @@ public record RectanglesCollisionAttributesResponse(
     }
 
     public Optional<Vector2[]> intersections() {
-        return attributes.intersections == null ? Optional.empty() :
-                Optional.of(attributes.intersections);
+        var intersections = attributes.intersections();
+        return intersections == null ? Optional.empty() : Optional.of(intersections);
     }
 
     public Optional<ContainmentInfo> containmentInfo() {
-        return attributes.containmentInfo == null ? Optional.empty() :
-                Optional.of(attributes.containmentInfo);
+        var containmentInfo = attributes.containmentInfo();
+        return containmentInfo == null ? Optional.empty() : Optional.of(containmentInfo);
     }
 
     public Optional<Adjacency[]> adjacencyList() {
-        return attributes.adjacencyList == null ? Optional.empty() :
-                Optional.of(attributes.adjacencyList);
+        var adjacencyList = attributes.adjacencyList();
+        return adjacencyList == null ? Optional.empty() : Optional.of(adjacencyList);
     }
 
     public Optional<Rectangle> rectangle1() {
@@ -50,7 +50,8 @@ public record RectanglesCollisionAttributesResponse(
     }
 
     /**
-     * Houses collision attributes for intersections, containment information, adjacency
+     * Houses collision attributes for intersections, containment information, adjacency. Attributes that
+     * were not queried are null.
      */
     public static class RectangleCollisionAttributes {
 
@@ -74,6 +75,21 @@ public record RectanglesCollisionAttributesResponse(
             this.containmentInfo = containmentInfo;
             this.adjacencyList = adjacencyList;
         }
+
+        @Nullable
+        Vector2[] intersections() {
+            return intersections;
+        }
+
+        @Nullable
+        ContainmentInfo containmentInfo() {
+            return containmentInfo;
+        }
+
+        @Nullable
+        Adjacency[] adjacencyList() {
+            return adjacencyList;
+        }
     }
 
     public record Rectangles(
@@ -0,0 +1,12 @@
+package com.caleb.rectangles.batch;
+
+public enum BatchFormat {
+    /**
+     * One pair per line as x1,y1,w1,h1,x2,y2,w2,h2
+     */
+    CSV,
+    /**
+     * One query object per line with the members of RectanglesCollisionAttributesQuery
+     */
+    NDJSON
+}
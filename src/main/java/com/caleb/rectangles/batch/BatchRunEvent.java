@@ -0,0 +1,44 @@
+package com.caleb.rectangles.batch;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one batch run, spanning from the first record read to the last result written
+ */
+@Name("com.caleb.rectangles.BatchRun")
+@Label("Batch Run")
+@Category({"Rectangles", "Engines"})
+@Description("One batch run over a stream of records")
+@Enabled(false)
+@StackTrace(false)
+class BatchRunEvent extends jdk.jfr.Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Records")
+    long records;
+
+    @Label("Failures")
+    long failures;
+
+    /**
+     * Fills in the summary of a finished run and commits the event
+     * @param format
+     * @param summary
+     * @return summary, unchanged
+     */
+    BatchSummary commitRun(BatchFormat format, BatchSummary summary) {
+        if (!shouldCommit()) return summary;
+        this.format = format.name();
+        this.records = summary.records();
+        this.failures = summary.failures();
+        commit();
+        return summary;
+    }
+}
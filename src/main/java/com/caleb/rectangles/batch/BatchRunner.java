@@ -0,0 +1,202 @@
+package com.caleb.rectangles.batch;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery;
+import com.caleb.rectangles.json.CollisionAttributesJson;
+import com.caleb.rectangles.json.JsonFormatException;
+import com.caleb.rectangles.json.JsonReader;
+import com.caleb.rectangles.json.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesQuery.RectangleRawData;
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+
+/**
+ * Streams rectangle pairs through a single interactor. Input is read one line at a time and one NDJSON
+ * result is written per record as soon as it is computed, so memory use does not grow with the input.
+ * Blank lines and lines starting with '#' are skipped. A malformed record produces an error result for its
+ * line and processing continues with the next line.
+ */
+public class BatchRunner {
+
+    private static final int CSV_FIELD_COUNT = 8;
+
+    private final RectanglesCollisionAttributesInteractor interactor;
+    private final BatchFormat format;
+    private final QueryFlags defaultFlags;
+
+    public BatchRunner(
+            RectanglesCollisionAttributesInteractor interactor,
+            BatchFormat format,
+            QueryFlags defaultFlags
+    ) {
+        this.interactor = interactor;
+        this.format = format;
+        this.defaultFlags = defaultFlags;
+    }
+
+    /**
+     * Processes every record of the input and writes one result line per record
+     * @param input
+     * @param output
+     * @return number of records processed and how many of them failed
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary run(Reader input, Writer output) throws IOException {
+        var event = new BatchRunEvent();
+        event.begin();
+        var reader = input instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(input);
+        var result = new StringBuilder();
+        long lineNumber = 0;
+        long records = 0;
+        long failures = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) continue;
+            records++;
+            var writer = beginResult(result, lineNumber);
+            if (!processRecord(line, writer)) failures++;
+            endResult(result, writer, output);
+        }
+        output.flush();
+        return event.commitRun(format, new BatchSummary(records, failures));
+    }
+
+    /**
+     * Processes every record of UTF-8 input and writes one result line per record. CSV lines made up of
+     * ASCII characters are parsed straight from the bytes; other lines are decoded and processed as by
+     * {@link #run(Reader, Writer)}, with identical results.
+     * @param input
+     * @param output
+     * @return number of records processed and how many of them failed
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary run(InputStream input, Writer output) throws IOException {
+        var event = new BatchRunEvent();
+        event.begin();
+        var lines = new ByteLineReader(input);
+        var fieldBounds = new int[2 * CSV_FIELD_COUNT];
+        var result = new StringBuilder();
+        long lineNumber = 0;
+        long records = 0;
+        long failures = 0;
+        while (lines.readLine()) {
+            lineNumber++;
+            var bytes = lines.bytes();
+            int length = lines.length();
+            boolean success;
+            if (format == BatchFormat.CSV && isAscii(bytes, length)) {
+                if (isBlank(bytes, length) || (length > 0 && bytes[0] == '#')) continue;
+                records++;
+                var writer = beginResult(result, lineNumber);
+                success = processCsvRecord(bytes, length, fieldBounds, writer);
+                endResult(result, writer, output);
+            }
+            else {
+                var line = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                if (line.isBlank() || line.startsWith("#")) continue;
+                records++;
+                var writer = beginResult(result, lineNumber);
+                success = processRecord(line, writer);
+                endResult(result, writer, output);
+            }
+            if (!success) failures++;
+        }
+        output.flush();
+        return event.commitRun(format, new BatchSummary(records, failures));
+    }
+
+    private static JsonWriter beginResult(StringBuilder result, long lineNumber) {
+        result.setLength(0);
+        return new JsonWriter(result).beginObject().name("line").value(lineNumber);
+    }
+
+    private static void endResult(StringBuilder result, JsonWriter writer, Writer output) throws IOException {
+        writer.endObject();
+        output.append(result).append('\n');
+    }
+
+    private boolean processCsvRecord(byte[] bytes, int length, int[] fieldBounds, JsonWriter writer) {
+        int fieldCount = 1;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == ',') fieldCount++;
+        }
+        if (fieldCount != CSV_FIELD_COUNT) {
+            writeInputError(writer, csvFieldCountMessage(fieldCount));
+            return false;
+        }
+        int field = 0;
+        fieldBounds[0] = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != ',') continue;
+            fieldBounds[2 * field + 1] = i;
+            fieldBounds[2 * ++field] = i + 1;
+        }
+        fieldBounds[2 * field + 1] = length;
+        var response = interactor.Execute(
+                bytes, fieldBounds,
+                defaultFlags.intersections(), defaultFlags.containment(), defaultFlags.adjacency()
+        );
+        CollisionAttributesJson.writeResponseMembers(writer, response);
+        return response.isSuccess();
+    }
+
+    private static boolean isAscii(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isBlank(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(bytes[i])) return false;
+        }
+        return true;
+    }
+
+    private static void writeInputError(JsonWriter writer, String message) {
+        writer.name("success").value(false);
+        CollisionAttributesJson.writeErrors(writer, Map.of("input", new String[] { message }));
+    }
+
+    private static String csvFieldCountMessage(int fieldCount) {
+        return String.format("Expected %d comma-separated values but found %d", CSV_FIELD_COUNT, fieldCount);
+    }
+
+    private boolean processRecord(String line, JsonWriter writer) {
+        RectanglesCollisionAttributesQuery query;
+        try {
+            query = format == BatchFormat.CSV ? readCsvQuery(line) :
+                    CollisionAttributesJson.readQuery(JsonReader.parse(line), defaultFlags);
+        }
+        catch (JsonFormatException | MalformedRecordException err) {
+            writeInputError(writer, err.getMessage());
+            return false;
+        }
+        var response = interactor.Execute(query);
+        CollisionAttributesJson.writeResponseMembers(writer, response);
+        return response.isSuccess();
+    }
+
+    private RectanglesCollisionAttributesQuery readCsvQuery(String line) {
+        var fields = line.split(",", -1);
+        if (fields.length != CSV_FIELD_COUNT)
+            throw new MalformedRecordException(csvFieldCountMessage(fields.length));
+        return new RectanglesCollisionAttributesQuery(
+                new RectangleRawData(fields[0].trim(), fields[1].trim(), fields[2].trim(), fields[3].trim()),
+                new RectangleRawData(fields[4].trim(), fields[5].trim(), fields[6].trim(), fields[7].trim()),
+                defaultFlags.intersections(),
+                defaultFlags.containment(),
+                defaultFlags.adjacency()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.caleb.rectangles.batch;
+
+/**
+ * Counts of the records processed by a batch run
+ * @param records
+ * @param failures
+ */
+public record BatchSummary(long records, long failures) {
+
+    public boolean isSuccess() {
+        return failures == 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.caleb.rectangles.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits a byte stream into lines the way {@link java.io.BufferedReader#readLine()} splits characters: a
+ * line ends at '\n', '\r' or "\r\n", and a trailing line without a terminator is still returned. The line
+ * is exposed as a reused byte window, so reading allocates nothing once the buffers have grown.
+ */
+class ByteLineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[256];
+    private int length;
+    private boolean skipLineFeed;
+
+    ByteLineReader(InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads the next line into {@link #bytes()}
+     * @return false once the stream has no more lines
+     * @throws IOException if reading the stream fails
+     */
+    boolean readLine() throws IOException {
+        length = 0;
+        boolean readAnything = false;
+        while (true) {
+            if (position == limit) {
+                limit = input.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return readAnything;
+                }
+            }
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                    continue;
+                }
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') position++;
+            append(start, position);
+            readAnything = true;
+            if (position < limit) {
+                skipLineFeed = buffer[position++] == '\r';
+                return true;
+            }
+        }
+    }
+
+    byte[] bytes() {
+        return line;
+    }
+
+    int length() {
+        return length;
+    }
+
+    private void append(int from, int to) {
+        int count = to - from;
+        if (length + count > line.length) line = Arrays.copyOf(line, Math.max(2 * line.length, length + count));
+        System.arraycopy(buffer, from, line, length, count);
+        length += count;
+    }
+}
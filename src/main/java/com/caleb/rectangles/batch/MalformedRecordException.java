@@ -0,0 +1,8 @@
+package com.caleb.rectangles.batch;
+
+class MalformedRecordException extends RuntimeException {
+
+    MalformedRecordException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.caleb.rectangles.clustering;
+
+/**
+ * Partition of rectangles into clusters
+ * @param labels cluster of each rectangle, numbered from 0 in order of each cluster's lowest rectangle index
+ * @param count number of clusters
+ */
+public record Clusters(int[] labels, int count) {
+
+    /**
+     * @return number of rectangles in each cluster
+     */
+    public int[] sizes() {
+        var sizes = new int[count];
+        for (int label : labels) sizes[label]++;
+        return sizes;
+    }
+
+    /**
+     * @param cluster
+     * @return indices of the rectangles in the cluster, in ascending order
+     */
+    public int[] members(int cluster) {
+        if (cluster < 0 || cluster >= count) throw new IndexOutOfBoundsException(cluster);
+        int size = 0;
+        for (int label : labels) {
+            if (label == cluster) size++;
+        }
+        var members = new int[size];
+        int next = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] == cluster) members[next++] = i;
+        }
+        return members;
+    }
+}
@@ -0,0 +1,85 @@
+package com.caleb.rectangles.clustering;
+
+/**
+ * Disjoint-set forest over the integers 0 to size - 1, stored in primitive arrays so that tens of millions of
+ * elements fit in a few bytes each. Finding a root compresses the path to it, and joining two sets hangs the
+ * lower-ranked root under the other, so operations take near-constant amortized time.
+ */
+public final class DisjointSet {
+
+    private final int[] parents;
+    private final byte[] ranks;
+    private int sets;
+
+    /**
+     * Creates one singleton set per element
+     * @param size number of elements
+     */
+    public DisjointSet(int size) {
+        if (size < 0) throw new IllegalArgumentException("size must not be negative");
+        parents = new int[size];
+        ranks = new byte[size];
+        for (int i = 0; i < size; i++) parents[i] = i;
+        sets = size;
+    }
+
+    public int size() {
+        return parents.length;
+    }
+
+    /**
+     * @return number of disjoint sets
+     */
+    public int sets() {
+        return sets;
+    }
+
+    /**
+     * Finds the representative of the set holding an element, pointing every element on the way straight at it
+     * @param element
+     * @return root of the element's set
+     */
+    public int find(int element) {
+        int root = element;
+        while (parents[root] != root) root = parents[root];
+        while (parents[element] != root) {
+            int next = parents[element];
+            parents[element] = root;
+            element = next;
+        }
+        return root;
+    }
+
+    /**
+     * Joins the sets holding two elements
+     * @param first
+     * @param second
+     * @return true if the elements were in different sets
+     */
+    public boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) return false;
+        if (ranks[firstRoot] < ranks[secondRoot]) {
+            parents[firstRoot] = secondRoot;
+        }
+        else if (ranks[firstRoot] > ranks[secondRoot]) {
+            parents[secondRoot] = firstRoot;
+        }
+        else {
+            parents[secondRoot] = firstRoot;
+            ranks[firstRoot]++;
+        }
+        sets--;
+        return true;
+    }
+
+    /**
+     * @param first
+     * @param second
+     * @return true if the elements are in the same set
+     */
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+}
@@ -0,0 +1,95 @@
+package com.caleb.rectangles.clustering;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.AdjacencyBuffer;
+import com.caleb.rectangles.domain.operations.ClosedFormAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.domain.operations.SweepAndPrune;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Groups rectangles into connected components, where two rectangles are linked when any of the chosen relations
+ * holds between them and clusters are closed under chains of links. Candidate pairs come from
+ * {@link SweepAndPrune}, so only pairs whose closed bounds overlap are tested, and pairs already in the same
+ * cluster are skipped without testing. Relations are tested on the edges in place, without allocating per pair.
+ */
+public class RectangleClusterer {
+
+    private final boolean linkIntersections;
+    private final boolean linkContainment;
+    private final boolean[] linkAdjacency = new boolean[Adjacency.Types.values().length];
+    private final boolean linkAnyAdjacency;
+
+    /**
+     * @param relations relations that link two rectangles, at least one
+     */
+    public RectangleClusterer(Set<Relation> relations) {
+        if (relations.isEmpty()) throw new IllegalArgumentException("At least one relation must link rectangles");
+        linkIntersections = relations.contains(Relation.INTERSECTION);
+        linkContainment = relations.contains(Relation.CONTAINMENT);
+        linkAdjacency[Adjacency.Types.Proper.ordinal()] = relations.contains(Relation.PROPER_ADJACENCY);
+        linkAdjacency[Adjacency.Types.Partial.ordinal()] = relations.contains(Relation.PARTIAL_ADJACENCY);
+        linkAdjacency[Adjacency.Types.SubLine.ordinal()] = relations.contains(Relation.SUBLINE_ADJACENCY);
+        linkAnyAdjacency = relations.contains(Relation.PROPER_ADJACENCY) ||
+                relations.contains(Relation.PARTIAL_ADJACENCY) ||
+                relations.contains(Relation.SUBLINE_ADJACENCY);
+    }
+
+    /**
+     * Creates a clusterer linking rectangles by every relation
+     */
+    public RectangleClusterer() {
+        this(EnumSet.allOf(Relation.class));
+    }
+
+    /**
+     * @param edges
+     * @return clusters of the rectangles
+     */
+    public Clusters findAll(IRectangleEdges edges) {
+        int count = edges.size();
+        var disjointSet = new DisjointSet(count);
+        var intersectionSink = new double[2 * IntersectionFinder.MAX_INTERSECTIONS];
+        var adjacencyBuffer = new AdjacencyBuffer();
+        SweepAndPrune.forEachCandidatePair(edges, (first, second) -> {
+            if (disjointSet.connected(first, second)) return;
+            if (areLinked(edges, first, second, intersectionSink, adjacencyBuffer))
+                disjointSet.union(first, second);
+        });
+
+        var labels = new int[count];
+        var rootLabels = new int[count];
+        int clusters = 0;
+        for (int i = 0; i < count; i++) {
+            int root = disjointSet.find(i);
+            if (rootLabels[root] == 0) rootLabels[root] = ++clusters;
+            labels[i] = rootLabels[root] - 1;
+        }
+        return new Clusters(labels, clusters);
+    }
+
+    private boolean areLinked(
+            IRectangleEdges edges, int first, int second, double[] intersectionSink, AdjacencyBuffer adjacencyBuffer
+    ) {
+        double left1 = edges.left(first), right1 = edges.right(first), top1 = edges.top(first), bottom1 = edges.bottom(first);
+        double left2 = edges.left(second), right2 = edges.right(second), top2 = edges.top(second), bottom2 = edges.bottom(second);
+        if (linkContainment && (Rectangle.contains(left1, right1, top1, bottom1, left2, right2, top2, bottom2) ||
+                Rectangle.contains(left2, right2, top2, bottom2, left1, right1, top1, bottom1)))
+            return true;
+        if (linkIntersections && IntersectionFinder.findAll(
+                left1, right1, top1, bottom1, left2, right2, top2, bottom2, intersectionSink) > 0)
+            return true;
+        if (!linkAnyAdjacency) return false;
+        int adjacencies = ClosedFormAdjacencyFinder.findAll(
+                left1, right1, top1, bottom1, left2, right2, top2, bottom2, adjacencyBuffer
+        );
+        for (int i = 0; i < adjacencies; i++) {
+            if (linkAdjacency[adjacencyBuffer.type(i).ordinal()]) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.caleb.rectangles.clustering;
+
+/**
+ * Relations between two rectangles that can link them into the same cluster
+ */
+public enum Relation {
+    /** The boundaries cross or touch in at least one point */
+    INTERSECTION,
+    /** Either rectangle contains the other (inclusive) */
+    CONTAINMENT,
+    /** An edge of each rectangle is the same segment */
+    PROPER_ADJACENCY,
+    /** Edges on the same line overlap without either lying within the other */
+    PARTIAL_ADJACENCY,
+    /** An edge of one rectangle lies within an edge of the other */
+    SUBLINE_ADJACENCY
+}
@@ -0,0 +1,216 @@
+package com.caleb.rectangles.coverage;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.operations.IndexSorter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Area and boundary of the region covered by a set of rectangles, counting overlaps once. A line sweeps across
+ * the rectangles, stopping at each left and right edge, while a segment tree over the compressed top and bottom
+ * edges tracks which part of the sweep line is covered. The union area takes O(n log n) time and O(n) space.
+ * <p>
+ * Rectangles whose edges are not finite, or that are too thin to separate their edges after rounding, cover
+ * nothing and are ignored.
+ */
+public final class Coverage {
+
+    private Coverage() {}
+
+    /**
+     * @param rectangles
+     * @return area covered by at least one rectangle
+     */
+    public static double unionArea(Rectangle... rectangles) {
+        return unionArea(RectangleBuffer.of(rectangles));
+    }
+
+    /**
+     * @param edges
+     * @return area covered by at least one rectangle
+     */
+    public static double unionArea(IRectangleEdges edges) {
+        var sweep = Sweep.along(edges, LineSegment.OrthogonalAxis.X);
+        var area = 0.0;
+        var previous = 0.0;
+        for (int position = 0; position < sweep.order.length; ) {
+            double stop = sweep.key(position);
+            if (position > 0) area += sweep.tree.coveredLength() * (stop - previous);
+            int end = sweep.endOfStop(position);
+            for (; position < end; position++)
+                sweep.apply(sweep.order[position]);
+            previous = stop;
+        }
+        return area;
+    }
+
+    /**
+     * Finds the boundary of the covered region as maximal segments: the vertical segments ordered by x and then
+     * by y, followed by the horizontal segments ordered by y and then by x. Holes in the region have boundaries
+     * too. Takes O((n + k) log n) time for k segments.
+     * @param edges
+     * @return segments of the boundary, with axis {@link LineSegment.OrthogonalAxis#X} for vertical segments and
+     *         {@link LineSegment.OrthogonalAxis#Y} for horizontal ones
+     */
+    public static LineSegment[] unionBoundary(IRectangleEdges edges) {
+        var segments = new ArrayList<LineSegment>();
+        for (var axis : LineSegment.OrthogonalAxis.values())
+            collectBoundary(Sweep.along(edges, axis), axis, segments);
+        return segments.toArray(new LineSegment[0]);
+    }
+
+    /**
+     * At each stop, the boundary on the sweep line is where coverage just before the stop differs from coverage
+     * just after it. With the rectangles that span the stop in the tree, that is the symmetric difference of the
+     * uncovered parts of the rectangles ending there and of those starting there.
+     */
+    private static void collectBoundary(
+            Sweep sweep, LineSegment.OrthogonalAxis axis, ArrayList<LineSegment> segments
+    ) {
+        var ending = new IntervalList();
+        var starting = new IntervalList();
+        var boundary = new IntervalList();
+        for (int position = 0; position < sweep.order.length; ) {
+            double stop = sweep.key(position);
+            int end = sweep.endOfStop(position);
+            for (int i = position; i < end; i++) {
+                if (sweep.isEnd(sweep.order[i])) sweep.apply(sweep.order[i]);
+            }
+            ending.clear();
+            starting.clear();
+            for (int i = position; i < end; i++) {
+                int event = sweep.order[i];
+                int rectangle = sweep.rectangleOf(event);
+                sweep.tree.collectUncovered(sweep.lower[rectangle], sweep.upper[rectangle],
+                        sweep.isEnd(event) ? ending : starting);
+            }
+            ending.union();
+            starting.union();
+            boundary.clear();
+            IntervalList.symmetricDifference(ending, starting, boundary);
+            for (int i = 0; i < boundary.size(); i++) {
+                segments.add(new LineSegment(axis, stop, new LineSegment.ParallelAxisBounds(
+                        sweep.coordinates[boundary.lower(i)], sweep.coordinates[boundary.upper(i)]
+                )));
+            }
+            for (; position < end; position++) {
+                if (!sweep.isEnd(sweep.order[position])) sweep.apply(sweep.order[position]);
+            }
+        }
+    }
+
+    /**
+     * Events of a sweep along one axis: event i &lt; n starts rectangle i and event n + i ends it. Rectangles
+     * span [lower, upper) in the compressed coordinates of the other axis.
+     */
+    private static final class Sweep {
+
+        private final int count;
+        private final double[] keys;
+        private final int[] order;
+        private final double[] coordinates;
+        private final int[] lower;
+        private final int[] upper;
+        private final CoverageTree tree;
+
+        private Sweep(double[] start, double[] end, double[] otherLower, double[] otherUpper) {
+            count = start.length;
+            int valid = 0;
+            var isValid = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                isValid[i] = Double.isFinite(start[i]) && Double.isFinite(end[i]) && start[i] < end[i] &&
+                        Double.isFinite(otherLower[i]) && Double.isFinite(otherUpper[i]) && otherLower[i] < otherUpper[i];
+                if (isValid[i]) valid++;
+            }
+
+            var sortedCoordinates = new double[2 * valid];
+            int next = 0;
+            for (int i = 0; i < count; i++) {
+                if (!isValid[i]) continue;
+                sortedCoordinates[next++] = otherLower[i] + 0.0;
+                sortedCoordinates[next++] = otherUpper[i] + 0.0;
+            }
+            Arrays.sort(sortedCoordinates);
+            int distinct = 0;
+            for (int i = 0; i < sortedCoordinates.length; i++) {
+                if (distinct == 0 || sortedCoordinates[i] != sortedCoordinates[distinct - 1])
+                    sortedCoordinates[distinct++] = sortedCoordinates[i];
+            }
+            coordinates = Arrays.copyOf(sortedCoordinates, distinct);
+
+            keys = new double[2 * count];
+            lower = new int[count];
+            upper = new int[count];
+            var events = new int[2 * valid];
+            next = 0;
+            for (int i = 0; i < count; i++) {
+                if (!isValid[i]) continue;
+                keys[i] = start[i] + 0.0;
+                keys[count + i] = end[i] + 0.0;
+                lower[i] = Arrays.binarySearch(coordinates, otherLower[i] + 0.0);
+                upper[i] = Arrays.binarySearch(coordinates, otherUpper[i] + 0.0);
+                events[next++] = i;
+                events[next++] = count + i;
+            }
+            IndexSorter.sort(events, keys);
+            order = events;
+            tree = new CoverageTree(coordinates);
+        }
+
+        /**
+         * @param edges
+         * @param axis X to sweep along the x-axis, stopping at left and right edges, or Y to sweep along the y-axis
+         * @return sweep
+         */
+        static Sweep along(IRectangleEdges edges, LineSegment.OrthogonalAxis axis) {
+            int count = edges.size();
+            var left = new double[count];
+            var right = new double[count];
+            var bottom = new double[count];
+            var top = new double[count];
+            for (int i = 0; i < count; i++) {
+                left[i] = edges.left(i);
+                right[i] = edges.right(i);
+                bottom[i] = edges.bottom(i);
+                top[i] = edges.top(i);
+            }
+            return axis == LineSegment.OrthogonalAxis.X ?
+                    new Sweep(left, right, bottom, top) : new Sweep(bottom, top, left, right);
+        }
+
+        double key(int position) {
+            return keys[order[position]];
+        }
+
+        /**
+         * @param position
+         * @return position just after the last event at the same coordinate as the given one
+         */
+        int endOfStop(int position) {
+            double stop = key(position);
+            int end = position + 1;
+            while (end < order.length && key(end) == stop) end++;
+            return end;
+        }
+
+        boolean isEnd(int event) {
+            return event >= count;
+        }
+
+        int rectangleOf(int event) {
+            return event >= count ? event - count : event;
+        }
+
+        void apply(int event) {
+            int rectangle = rectangleOf(event);
+            if (isEnd(event))
+                tree.remove(lower[rectangle], upper[rectangle]);
+            else
+                tree.add(lower[rectangle], upper[rectangle]);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.caleb.rectangles.coverage;
+
+/**
+ * Segment tree over the elementary intervals between sorted, distinct coordinates. Each node counts the
+ * ranges that cover it whole, and tracks how much of it is covered by any range, both as a length and as a
+ * number of elementary intervals. Ranges are given as indices into the coordinates, [from, to).
+ * <p>
+ * The fields of a node are stored next to each other in one array, so updating a node touches a single
+ * cache line.
+ */
+final class CoverageTree {
+
+    private static final int FIELDS = 4;
+    private static final int LENGTH = 0;
+    private static final int COVER = 1;
+    private static final int COVERED_INTERVALS = 2;
+    private static final int COVERED_LENGTH = 3;
+
+    private final int intervals;
+    private final double[] nodes;
+
+    /**
+     * @param coordinates sorted, distinct coordinates
+     */
+    CoverageTree(double[] coordinates) {
+        this.intervals = Math.max(0, coordinates.length - 1);
+        this.nodes = new double[FIELDS * 4 * Math.max(1, intervals)];
+        if (intervals > 0) build(coordinates, 1, 0, intervals);
+    }
+
+    /**
+     * @return total length covered by at least one range
+     */
+    double coveredLength() {
+        return nodes[FIELDS + COVERED_LENGTH];
+    }
+
+    void add(int from, int to) {
+        if (from < to) update(1, 0, intervals, from, to, 1);
+    }
+
+    void remove(int from, int to) {
+        if (from < to) update(1, 0, intervals, from, to, -1);
+    }
+
+    /**
+     * Appends the maximal parts of [from, to) that no range covers, in ascending order
+     * @param from
+     * @param to
+     * @param uncovered receives the parts
+     */
+    void collectUncovered(int from, int to, IntervalList uncovered) {
+        if (from < to) collectUncovered(1, 0, intervals, from, to, uncovered);
+    }
+
+    private void build(double[] coordinates, int node, int lower, int upper) {
+        nodes[FIELDS * node + LENGTH] = coordinates[upper] - coordinates[lower];
+        if (upper - lower == 1) return;
+        int middle = (lower + upper) >>> 1;
+        build(coordinates, 2 * node, lower, middle);
+        build(coordinates, 2 * node + 1, middle, upper);
+    }
+
+    private void update(int node, int lower, int upper, int from, int to, int delta) {
+        if (to <= lower || upper <= from) return;
+        int base = FIELDS * node;
+        if (from <= lower && upper <= to) {
+            nodes[base + COVER] += delta;
+        }
+        else {
+            int middle = (lower + upper) >>> 1;
+            update(2 * node, lower, middle, from, to, delta);
+            update(2 * node + 1, middle, upper, from, to, delta);
+        }
+        if (nodes[base + COVER] > 0) {
+            nodes[base + COVERED_INTERVALS] = upper - lower;
+            nodes[base + COVERED_LENGTH] = nodes[base + LENGTH];
+        }
+        else if (upper - lower == 1) {
+            nodes[base + COVERED_INTERVALS] = 0;
+            nodes[base + COVERED_LENGTH] = 0.0;
+        }
+        else {
+            int left = FIELDS * 2 * node;
+            int right = left + FIELDS;
+            nodes[base + COVERED_INTERVALS] = nodes[left + COVERED_INTERVALS] + nodes[right + COVERED_INTERVALS];
+            nodes[base + COVERED_LENGTH] = nodes[left + COVERED_LENGTH] + nodes[right + COVERED_LENGTH];
+        }
+    }
+
+    private void collectUncovered(int node, int lower, int upper, int from, int to, IntervalList uncovered) {
+        double coveredIntervals = nodes[FIELDS * node + COVERED_INTERVALS];
+        if (to <= lower || upper <= from || coveredIntervals == upper - lower) return;
+        if (coveredIntervals == 0) {
+            uncovered.add(Math.max(lower, from), Math.min(upper, to));
+            return;
+        }
+        int middle = (lower + upper) >>> 1;
+        collectUncovered(2 * node, lower, middle, from, to, uncovered);
+        collectUncovered(2 * node + 1, middle, upper, from, to, uncovered);
+    }
+}
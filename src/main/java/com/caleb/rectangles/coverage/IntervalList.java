@@ -0,0 +1,101 @@
+package com.caleb.rectangles.coverage;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of half-open integer intervals [lower, upper)
+ */
+final class IntervalList {
+
+    private int[] bounds = new int[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int lower(int i) {
+        return bounds[2 * i];
+    }
+
+    int upper(int i) {
+        return bounds[2 * i + 1];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(int lower, int upper) {
+        if (2 * size + 2 > bounds.length) bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+        bounds[2 * size] = lower;
+        bounds[2 * size + 1] = upper;
+        size++;
+    }
+
+    /**
+     * Sorts the intervals and merges those that overlap or touch, leaving disjoint intervals in ascending order
+     */
+    void union() {
+        if (size < 2) return;
+        var order = new long[size];
+        for (int i = 0; i < size; i++)
+            order[i] = ((long) bounds[2 * i] << 32) | (bounds[2 * i + 1] & 0xFFFFFFFFL);
+        Arrays.sort(order);
+        int merged = 0;
+        for (long interval : order) {
+            int lower = (int) (interval >> 32);
+            int upper = (int) interval;
+            if (merged > 0 && lower <= bounds[2 * merged - 1]) {
+                bounds[2 * merged - 1] = Math.max(bounds[2 * merged - 1], upper);
+            }
+            else {
+                bounds[2 * merged] = lower;
+                bounds[2 * merged + 1] = upper;
+                merged++;
+            }
+        }
+        size = merged;
+    }
+
+    /**
+     * Writes the parts covered by exactly one of two lists of disjoint ascending intervals, merging parts that
+     * touch
+     * @param first
+     * @param second
+     * @param difference receives the parts in ascending order
+     */
+    static void symmetricDifference(IntervalList first, IntervalList second, IntervalList difference) {
+        int i = 0;
+        int j = 0;
+        boolean inFirst = false;
+        boolean inSecond = false;
+        int start = 0;
+        while (i < 2 * first.size || j < 2 * second.size) {
+            int next = Math.min(
+                    i < 2 * first.size ? first.bounds[i] : Integer.MAX_VALUE,
+                    j < 2 * second.size ? second.bounds[j] : Integer.MAX_VALUE
+            );
+            boolean wasInDifference = inFirst != inSecond;
+            if (i < 2 * first.size && first.bounds[i] == next) {
+                inFirst = !inFirst;
+                i++;
+            }
+            if (j < 2 * second.size && second.bounds[j] == next) {
+                inSecond = !inSecond;
+                j++;
+            }
+            boolean isInDifference = inFirst != inSecond;
+            if (!wasInDifference && isInDifference) {
+                start = next;
+            }
+            else if (wasInDifference && !isInDifference && start < next) {
+                int last = difference.size - 1;
+                if (last >= 0 && difference.upper(last) == start)
+                    difference.bounds[2 * last + 1] = next;
+                else
+                    difference.add(start, next);
+            }
+        }
+    }
+}
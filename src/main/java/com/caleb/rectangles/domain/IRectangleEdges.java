@@ -0,0 +1,18 @@
+package com.caleb.rectangles.domain;
+
+/**
+ * Read-only, index-based view of the edges of many rectangles, letting engines scan columnar or mapped
+ * storage in place without materializing {@link Rectangle} objects
+ */
+public interface IRectangleEdges {
+
+    int size();
+
+    double left(int i);
+
+    double right(int i);
+
+    double top(int i);
+
+    double bottom(int i);
+}
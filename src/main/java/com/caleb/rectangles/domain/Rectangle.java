@@ -15,23 +15,50 @@ public record Rectangle(Vector2 topLeft, Size size) {
      * @param size The size expanding from the top left (width, height)
      */
     public Rectangle {
+        ensureSizeIsValid(size.width(), size.height());
+    }
+
+    /**
+     * Enforces the size invariants shared by every rectangle representation
+     * @param width
+     * @param height
+     * @throws InvalidRectangleException if the width or height is not greater than zero
+     */
+    static void ensureSizeIsValid(double width, double height) {
+        if (width > 0 && height > 0) return;
         var invariantViolations = new HashMap<String, String[]>();
-        if (size.width() <= 0)
+        if (width <= 0)
             invariantViolations.put("size.width", new String[] { "The width must be greater than zero"});
-        if (size.height() <= 0)
+        if (height <= 0)
             invariantViolations.put("size.height", new String[] { "The height must be greater than zero"});
         if (!invariantViolations.isEmpty()) throw new InvalidRectangleException(invariantViolations);
     }
 
+    public double left() {
+        return topLeft.x();
+    }
+
+    public double right() {
+        return topLeft.x() + size.width();
+    }
+
+    public double top() {
+        return topLeft.y();
+    }
+
+    public double bottom() {
+        return topLeft.y() - size.height();
+    }
+
     /**
      * Returns all segments of rectangle in the order top, right, bottom, left
      * @return segments
      */
     public LineSegment[] segments() {
-        var leftX = topLeft.x();
-        var rightX = leftX + size.width();
-        var topY = topLeft.y();
-        var bottomY = topY - size.height();
+        var leftX = left();
+        var rightX = right();
+        var topY = top();
+        var bottomY = bottom();
         var top = new LineSegment(
                 LineSegment.OrthogonalAxis.Y, topY,
                 new LineSegment.ParallelAxisBounds(leftX, rightX)
@@ -57,25 +84,47 @@ public record Rectangle(Vector2 topLeft, Size size) {
      * @return true if rectangle is within bounds (inclusive) and false if not
      */
     public boolean contains(Rectangle rectangle) {
-        var otherSegments = rectangle.segments();
-
-        var topIsContained = isWithinVerticalBounds(otherSegments[TOP_SEGMENT]);
-        var rightIsContained = isWithinHorizontalBounds(otherSegments[RIGHT_SEGMENT]);
-        var bottomIsContained = isWithinVerticalBounds(otherSegments[BOTTOM_SEGMENT]);
-        var leftIsContained = isWithinHorizontalBounds(otherSegments[LEFT_SEGMENT]);
+        return contains(
+                left(), right(), top(), bottom(),
+                rectangle.left(), rectangle.right(), rectangle.top(), rectangle.bottom()
+        );
+    }
 
-        return topIsContained && rightIsContained && bottomIsContained && leftIsContained;
+    /**
+     * Checks if the current rectangle shares at least one point with another, which is the case exactly
+     * when they intersect, contain one another or are adjacent
+     * @param rectangle
+     * @return true if the rectangles overlap or touch and false if not
+     */
+    public boolean overlaps(Rectangle rectangle) {
+        return overlaps(
+                left(), right(), top(), bottom(),
+                rectangle.left(), rectangle.right(), rectangle.top(), rectangle.bottom()
+        );
     }
 
-    boolean isWithinHorizontalBounds(LineSegment otherSegment) {
-        var thisSegments = segments();
-        return otherSegment.constant() >= thisSegments[Rectangle.LEFT_SEGMENT].constant()
-                && otherSegment.constant() <= thisSegments[Rectangle.RIGHT_SEGMENT].constant();
+    /**
+     * Checks if the first rectangle contains the second (inclusive) given their edges
+     * @return true if the second rectangle is within the bounds (inclusive) of the first
+     */
+    public static boolean contains(
+            double left1, double right1, double top1, double bottom1,
+            double left2, double right2, double top2, double bottom2
+    ) {
+        return top2 >= bottom1 && top2 <= top1 &&
+                right2 >= left1 && right2 <= right1 &&
+                bottom2 >= bottom1 && bottom2 <= top1 &&
+                left2 >= left1 && left2 <= right1;
     }
 
-    boolean isWithinVerticalBounds(LineSegment otherSegment) {
-        var thisSegments = segments();
-        return otherSegment.constant() >= thisSegments[Rectangle.BOTTOM_SEGMENT].constant()
-                && otherSegment.constant() <= thisSegments[Rectangle.TOP_SEGMENT].constant();
+    /**
+     * Checks if two rectangles share at least one point given their edges
+     * @return true if the closed bounds of the rectangles overlap
+     */
+    public static boolean overlaps(
+            double left1, double right1, double top1, double bottom1,
+            double left2, double right2, double top2, double bottom2
+    ) {
+        return left2 <= right1 && left1 <= right2 && bottom2 <= top1 && bottom1 <= top2;
     }
 }
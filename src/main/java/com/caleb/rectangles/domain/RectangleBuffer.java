@@ -0,0 +1,205 @@
+package com.caleb.rectangles.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Columnar storage for many rectangles. Each rectangle is kept as its top-left x, top-left y, width and
+ * height in four primitive arrays, so large collections avoid the per-rectangle {@link Rectangle},
+ * {@link Vector2} and {@link Size} objects and can be scanned sequentially.
+ * The kernels work on indices and follow the same semantics as {@link Rectangle#contains(Rectangle)},
+ * the intersection finder and the adjacency finder.
+ */
+public final class RectangleBuffer implements IRectangleEdges {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] x;
+    private double[] y;
+    private double[] width;
+    private double[] height;
+    private int size;
+
+    public RectangleBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RectangleBuffer(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("The initial capacity must not be negative");
+        x = new double[initialCapacity];
+        y = new double[initialCapacity];
+        width = new double[initialCapacity];
+        height = new double[initialCapacity];
+    }
+
+    public static RectangleBuffer of(Rectangle... rectangles) {
+        var buffer = new RectangleBuffer(rectangles.length);
+        for (Rectangle rectangle : rectangles) buffer.add(rectangle);
+        return buffer;
+    }
+
+    /**
+     * Appends a rectangle given its top-left corner and size
+     * @param x top-left x-coordinate
+     * @param y top-left y-coordinate
+     * @param width
+     * @param height
+     * @return the index of the new rectangle
+     * @throws InvalidRectangleException if the width or height is not greater than zero
+     */
+    public int add(double x, double y, double width, double height) {
+        Rectangle.ensureSizeIsValid(width, height);
+        if (size == this.x.length) grow();
+        this.x[size] = x;
+        this.y[size] = y;
+        this.width[size] = width;
+        this.height[size] = height;
+        return size++;
+    }
+
+    public int add(Rectangle rectangle) {
+        return add(rectangle.topLeft().x(), rectangle.topLeft().y(),
+                rectangle.size().width(), rectangle.size().height());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double x(int i) {
+        return x[Objects.checkIndex(i, size)];
+    }
+
+    public double y(int i) {
+        return y[Objects.checkIndex(i, size)];
+    }
+
+    public double width(int i) {
+        return width[Objects.checkIndex(i, size)];
+    }
+
+    public double height(int i) {
+        return height[Objects.checkIndex(i, size)];
+    }
+
+    public double left(int i) {
+        return x(i);
+    }
+
+    public double right(int i) {
+        return x(i) + width[i];
+    }
+
+    public double top(int i) {
+        return y(i);
+    }
+
+    public double bottom(int i) {
+        return y(i) - height[i];
+    }
+
+    /**
+     * Materializes the rectangle at an index
+     * @param i
+     * @return rectangle
+     */
+    public Rectangle get(int i) {
+        return new Rectangle(new Vector2(x(i), y[i]), new Size(width[i], height[i]));
+    }
+
+    /**
+     * Checks if the rectangle at i contains the rectangle at j (inclusive)
+     * @param i
+     * @param j
+     * @return true if rectangle j is within the bounds (inclusive) of rectangle i
+     */
+    public boolean contains(int i, int j) {
+        return Rectangle.contains(
+                left(i), right(i), top(i), bottom(i),
+                left(j), right(j), top(j), bottom(j)
+        );
+    }
+
+    /**
+     * Checks if the rectangles at i and j share at least one point
+     * @param i
+     * @param j
+     * @return true if the closed bounds of the rectangles overlap
+     */
+    public boolean overlaps(int i, int j) {
+        return Rectangle.overlaps(
+                left(i), right(i), top(i), bottom(i),
+                left(j), right(j), top(j), bottom(j)
+        );
+    }
+
+    /**
+     * Checks if the boundaries of the rectangles at i and j cross or touch in at least one point
+     * @param i
+     * @param j
+     * @return true if there is at least one intersection point
+     */
+    public boolean intersects(int i, int j) {
+        double left1 = left(i), right1 = right(i), top1 = top(i), bottom1 = bottom(i);
+        double left2 = left(j), right2 = right(j), top2 = top(j), bottom2 = bottom(j);
+        return horizontalEdgesCrossVerticalEdges(left1, right1, top1, bottom1, left2, right2, top2, bottom2) ||
+                horizontalEdgesCrossVerticalEdges(left2, right2, top2, bottom2, left1, right1, top1, bottom1);
+    }
+
+    /**
+     * Checks if the rectangles at i and j share at least one adjacent segment
+     * @param i
+     * @param j
+     * @return true if there is at least one Proper, Partial or SubLine adjacency
+     */
+    public boolean isAdjacent(int i, int j) {
+        double left1 = left(i), right1 = right(i), top1 = top(i), bottom1 = bottom(i);
+        double left2 = left(j), right2 = right(j), top2 = top(j), bottom2 = bottom(j);
+        return edgesAreAdjacent(top1, left1, right1, top2, bottom2, left2, right2) ||
+                edgesAreAdjacent(right1, bottom1, top1, right2, left2, bottom2, top2) ||
+                edgesAreAdjacent(bottom1, left1, right1, top2, bottom2, left2, right2) ||
+                edgesAreAdjacent(left1, bottom1, top1, right2, left2, bottom2, top2);
+    }
+
+    private static boolean horizontalEdgesCrossVerticalEdges(
+            double left1, double right1, double top1, double bottom1,
+            double left2, double right2, double top2, double bottom2
+    ) {
+        return (isBetween(left2, left1, right1) || isBetween(right2, left1, right1)) &&
+                (isBetween(top1, bottom2, top2) || isBetween(bottom1, bottom2, top2));
+    }
+
+    private static boolean edgesAreAdjacent(
+            double constant1, double lower1, double upper1,
+            double firstConstant2, double secondConstant2, double lower2, double upper2
+    ) {
+        return segmentsAreAdjacent(constant1, lower1, upper1, firstConstant2, lower2, upper2) ||
+                segmentsAreAdjacent(constant1, lower1, upper1, secondConstant2, lower2, upper2);
+    }
+
+    private static boolean segmentsAreAdjacent(
+            double constant1, double lower1, double upper1,
+            double constant2, double lower2, double upper2
+    ) {
+        if (constant1 != constant2) return false;
+        var segmentsAreEqual = Double.compare(constant1, constant2) == 0 &&
+                Double.compare(lower1, lower2) == 0 && Double.compare(upper1, upper2) == 0;
+        if (segmentsAreEqual) return true;
+        var segment2IsWithinSegment1 = isBetween(lower2, lower1, upper1) && isBetween(upper2, lower1, upper1);
+        var segment1EndIsWithinSegment2 = isBetween(lower1, lower2, upper2) || isBetween(upper1, lower2, upper2);
+        if (!segment2IsWithinSegment1 && !segment1EndIsWithinSegment2) return false;
+        return Math.min(upper1, upper2) - Math.max(lower1, lower2) != 0.0;
+    }
+
+    private static boolean isBetween(double value, double lower, double upper) {
+        return value >= lower && value <= upper;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, x.length + (x.length >> 1));
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+    }
+}
@@ -0,0 +1,86 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.LineSegment;
+
+/**
+ * Reusable output for adjacency results. Each adjacency is stored as its type, axis, constant and bounds
+ * in fixed-size arrays, so a single buffer can be filled repeatedly without allocating.
+ */
+public final class AdjacencyBuffer {
+
+    /**
+     * The most adjacencies two rectangles can produce: each of the four edges of one rectangle paired with
+     * each of the two edges of the other rectangle that share its axis
+     */
+    public static final int CAPACITY = 8;
+
+    private final Adjacency.Types[] types = new Adjacency.Types[CAPACITY];
+    private final LineSegment.OrthogonalAxis[] axes = new LineSegment.OrthogonalAxis[CAPACITY];
+    private final double[] constants = new double[CAPACITY];
+    private final double[] lowers = new double[CAPACITY];
+    private final double[] uppers = new double[CAPACITY];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public Adjacency.Types type(int i) {
+        return types[checkIndex(i)];
+    }
+
+    public LineSegment.OrthogonalAxis axis(int i) {
+        return axes[checkIndex(i)];
+    }
+
+    public double constant(int i) {
+        return constants[checkIndex(i)];
+    }
+
+    public double lower(int i) {
+        return lowers[checkIndex(i)];
+    }
+
+    public double upper(int i) {
+        return uppers[checkIndex(i)];
+    }
+
+    /**
+     * Materializes the adjacency at an index
+     * @param i
+     * @return adjacency
+     */
+    public Adjacency get(int i) {
+        return new Adjacency(type(i), new LineSegment(
+                axes[i], constants[i], new LineSegment.ParallelAxisBounds(lowers[i], uppers[i])
+        ));
+    }
+
+    public Adjacency[] toArray() {
+        var adjacencyList = new Adjacency[size];
+        for (int i = 0; i < size; i++) adjacencyList[i] = get(i);
+        return adjacencyList;
+    }
+
+    void add(Adjacency.Types type, LineSegment.OrthogonalAxis axis, double constant, double lower, double upper) {
+        types[size] = type;
+        axes[size] = axis;
+        constants[size] = constant;
+        lowers[size] = lower;
+        uppers[size] = upper;
+        size++;
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index " + i + " out of bounds for size " + size);
+        return i;
+    }
+}
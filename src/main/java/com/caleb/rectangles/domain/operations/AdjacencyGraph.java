@@ -0,0 +1,64 @@
+package com.caleb.rectangles.domain.operations;
+
+/**
+ * Undirected graph of adjacent rectangles. Each rectangle is a vertex and each adjacent pair an edge, with
+ * the neighbors of every rectangle stored contiguously in ascending order.
+ */
+public final class AdjacencyGraph {
+
+    private final AdjacentPair[] pairs;
+    private final int[] offsets;
+    private final int[] neighbors;
+
+    /**
+     * @param size number of rectangles
+     * @param pairs adjacent pairs ordered by first index, then second index
+     */
+    AdjacencyGraph(int size, AdjacentPair[] pairs) {
+        this.pairs = pairs;
+        offsets = new int[size + 1];
+        for (var pair : pairs) {
+            offsets[pair.first() + 1]++;
+            offsets[pair.second() + 1]++;
+        }
+        for (int i = 0; i < size; i++) offsets[i + 1] += offsets[i];
+        neighbors = new int[offsets[size]];
+        var next = new int[size];
+        for (var pair : pairs) {
+            neighbors[offsets[pair.first()] + next[pair.first()]++] = pair.second();
+            neighbors[offsets[pair.second()] + next[pair.second()]++] = pair.first();
+        }
+    }
+
+    /**
+     * @return number of rectangles
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return adjacent pairs ordered by first index, then second index
+     */
+    public AdjacentPair[] pairs() {
+        return pairs;
+    }
+
+    /**
+     * @param rectangle
+     * @return number of rectangles adjacent to the rectangle
+     */
+    public int degree(int rectangle) {
+        return offsets[rectangle + 1] - offsets[rectangle];
+    }
+
+    /**
+     * @param rectangle
+     * @return indices of the rectangles adjacent to the rectangle, in ascending order
+     */
+    public int[] neighbors(int rectangle) {
+        var result = new int[degree(rectangle)];
+        System.arraycopy(neighbors, offsets[rectangle], result, 0, result.length);
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Builds the adjacency graph of many rectangles at once. Two edges can only be adjacent when they lie on the
+ * same line, so the edges of each axis are sorted by their constant and then by their lower bound, and each run
+ * of equal constants is swept to pair edges whose closed bounds overlap. Only the pairs found this way are
+ * classified, with {@link ClosedFormAdjacencyFinder}, so the cost is O(n log n + k) for k such edge pairs
+ * rather than a test of every pair of rectangles.
+ */
+public class AdjacencyGraphBuilder {
+
+    /**
+     * @param rectangles
+     * @return adjacency graph of the rectangles
+     */
+    public AdjacencyGraph build(Rectangle... rectangles) {
+        return build(RectangleBuffer.of(rectangles));
+    }
+
+    /**
+     * @param edges
+     * @return adjacency graph of the rectangles, with the same adjacencies in the same order as
+     * {@link AdjacencyFinder} reports for each pair
+     */
+    public AdjacencyGraph build(IRectangleEdges edges) {
+        int count = edges.size();
+        var constants = new double[2 * count];
+        var lowers = new double[2 * count];
+        var uppers = new double[2 * count];
+        var candidates = new PairList();
+        for (int i = 0; i < count; i++) {
+            constants[2 * i] = edges.top(i);
+            constants[2 * i + 1] = edges.bottom(i);
+            lowers[2 * i] = lowers[2 * i + 1] = edges.left(i);
+            uppers[2 * i] = uppers[2 * i + 1] = edges.right(i);
+        }
+        addCandidates(constants, lowers, uppers, candidates);
+        for (int i = 0; i < count; i++) {
+            constants[2 * i] = edges.right(i);
+            constants[2 * i + 1] = edges.left(i);
+            lowers[2 * i] = lowers[2 * i + 1] = edges.bottom(i);
+            uppers[2 * i] = uppers[2 * i + 1] = edges.top(i);
+        }
+        addCandidates(constants, lowers, uppers, candidates);
+        return new AdjacencyGraph(count, classify(edges, candidates.sortedDistinct()));
+    }
+
+    /**
+     * Pairs every two edges of different rectangles that lie on the same line and whose closed bounds overlap.
+     * Edge e belongs to rectangle e / 2.
+     */
+    private static void addCandidates(double[] constants, double[] lowers, double[] uppers, PairList candidates) {
+        // Adding zero turns -0.0 into 0.0, so that both fall into the same run
+        for (int e = 0; e < constants.length; e++) constants[e] += 0.0;
+        var order = IndexSorter.sortedIndices(lowers, lowers.length);
+        IndexSorter.sort(order, constants);
+        var active = new int[order.length];
+        int runStart = 0;
+        while (runStart < order.length) {
+            double constant = constants[order[runStart]];
+            int runEnd = runStart + 1;
+            while (runEnd < order.length && constants[order[runEnd]] == constant) runEnd++;
+            int activeCount = 0;
+            for (int position = runStart; position < runEnd; position++) {
+                int next = order[position];
+                int i = 0;
+                while (i < activeCount) {
+                    int current = active[i];
+                    if (uppers[current] < lowers[next]) {
+                        active[i] = active[--activeCount];
+                        continue;
+                    }
+                    if (current / 2 != next / 2) candidates.add(current / 2, next / 2);
+                    i++;
+                }
+                active[activeCount++] = next;
+            }
+            runStart = runEnd;
+        }
+    }
+
+    private static AdjacentPair[] classify(IRectangleEdges edges, long[] candidates) {
+        var adjacencyBuffer = new AdjacencyBuffer();
+        var pairs = new AdjacentPair[candidates.length];
+        int pairCount = 0;
+        for (long candidate : candidates) {
+            int first = PairList.first(candidate);
+            int second = PairList.second(candidate);
+            int adjacencies = ClosedFormAdjacencyFinder.findAll(
+                    edges.left(first), edges.right(first), edges.top(first), edges.bottom(first),
+                    edges.left(second), edges.right(second), edges.top(second), edges.bottom(second),
+                    adjacencyBuffer
+            );
+            if (adjacencies > 0) pairs[pairCount++] = new AdjacentPair(first, second, adjacencyBuffer.toArray());
+        }
+        return Arrays.copyOf(pairs, pairCount);
+    }
+
+    /**
+     * Growable list of index pairs, each packed into a long with the lower index in the high half so that
+     * sorting the longs orders the pairs by first index, then second index
+     */
+    private static final class PairList {
+
+        private long[] pairs = new long[16];
+        private int size;
+
+        void add(int a, int b) {
+            if (size == pairs.length) pairs = Arrays.copyOf(pairs, 2 * size);
+            pairs[size++] = ((long) Math.min(a, b) << 32) | Math.max(a, b);
+        }
+
+        long[] sortedDistinct() {
+            Arrays.sort(pairs, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || pairs[i] != pairs[distinct - 1]) pairs[distinct++] = pairs[i];
+            }
+            return Arrays.copyOf(pairs, distinct);
+        }
+
+        static int first(long pair) {
+            return (int) (pair >>> 32);
+        }
+
+        static int second(long pair) {
+            return (int) pair;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.caleb.rectangles.domain.operations;
+
+/**
+ * Two adjacent rectangles, identified by their indices in the input, and their adjacencies.
+ * The first index is always less than the second and the adjacencies are computed as (first, second).
+ * @param first
+ * @param second
+ * @param adjacencies
+ */
+public record AdjacentPair(int first, int second, Adjacency[] adjacencies) {}
@@ -0,0 +1,85 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Rectangle;
+
+/**
+ * Finds adjacency by comparing edge constants directly instead of looping over every pair of segments.
+ * Only edges on the same axis can be adjacent, so each edge of the first rectangle is compared with the
+ * two edges of the second rectangle that share its axis. Results and their order are identical to
+ * {@link AdjacencyFinder}.
+ */
+public class ClosedFormAdjacencyFinder implements IAdjacencyFinder {
+
+    private static final LineSegment.OrthogonalAxis X = LineSegment.OrthogonalAxis.X;
+    private static final LineSegment.OrthogonalAxis Y = LineSegment.OrthogonalAxis.Y;
+
+    public Adjacency[] findAll(Rectangle rect1, Rectangle rect2) {
+        var adjacencyBuffer = new AdjacencyBuffer();
+        findAll(
+                rect1.left(), rect1.right(), rect1.top(), rect1.bottom(),
+                rect2.left(), rect2.right(), rect2.top(), rect2.bottom(),
+                adjacencyBuffer
+        );
+        return adjacencyBuffer.toArray();
+    }
+
+    /**
+     * Finds all the adjacency relationships between two rectangles given their edges, without allocating.
+     * The buffer is cleared before it is filled.
+     * @param left1
+     * @param right1
+     * @param top1
+     * @param bottom1
+     * @param left2
+     * @param right2
+     * @param top2
+     * @param bottom2
+     * @param adjacencyBuffer receives the adjacency relationships
+     * @return the number of adjacency relationships found
+     */
+    public static int findAll(
+            double left1, double right1, double top1, double bottom1,
+            double left2, double right2, double top2, double bottom2,
+            AdjacencyBuffer adjacencyBuffer
+    ) {
+        adjacencyBuffer.clear();
+        addIfAdjacent(adjacencyBuffer, Y, top1, left1, right1, top2, left2, right2);
+        addIfAdjacent(adjacencyBuffer, Y, top1, left1, right1, bottom2, left2, right2);
+        addIfAdjacent(adjacencyBuffer, X, right1, bottom1, top1, right2, bottom2, top2);
+        addIfAdjacent(adjacencyBuffer, X, right1, bottom1, top1, left2, bottom2, top2);
+        addIfAdjacent(adjacencyBuffer, Y, bottom1, left1, right1, top2, left2, right2);
+        addIfAdjacent(adjacencyBuffer, Y, bottom1, left1, right1, bottom2, left2, right2);
+        addIfAdjacent(adjacencyBuffer, X, left1, bottom1, top1, right2, bottom2, top2);
+        addIfAdjacent(adjacencyBuffer, X, left1, bottom1, top1, left2, bottom2, top2);
+        return adjacencyBuffer.size();
+    }
+
+    private static void addIfAdjacent(
+            AdjacencyBuffer adjacencyBuffer, LineSegment.OrthogonalAxis axis,
+            double constant1, double lower1, double upper1,
+            double constant2, double lower2, double upper2
+    ) {
+        if (constant1 != constant2) return;
+        var segmentsAreEqual = Double.compare(constant1, constant2) == 0 &&
+                Double.compare(lower1, lower2) == 0 && Double.compare(upper1, upper2) == 0;
+        if (segmentsAreEqual) {
+            adjacencyBuffer.add(Adjacency.Types.Proper, axis, constant1, lower1, upper1);
+            return;
+        }
+        var newLower = Math.max(lower1, lower2);
+        var newUpper = Math.min(upper1, upper2);
+        var newSegmentIsAPoint = newUpper - newLower == 0.0;
+        if (newSegmentIsAPoint) return;
+        var segment2IsWithinSegment1 = isBetween(lower2, lower1, upper1) && isBetween(upper2, lower1, upper1);
+        var segment1BoundaryIsWithinSegment2 = isBetween(lower1, lower2, upper2) || isBetween(upper1, lower2, upper2);
+        if (segment2IsWithinSegment1)
+            adjacencyBuffer.add(Adjacency.Types.SubLine, axis, constant1, newLower, newUpper);
+        else if (segment1BoundaryIsWithinSegment2)
+            adjacencyBuffer.add(Adjacency.Types.Partial, axis, constant1, newLower, newUpper);
+    }
+
+    private static boolean isBetween(double value, double lower, double upper) {
+        return value >= lower && value <= upper;
+    }
+}
@@ -0,0 +1,28 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Vector2;
+
+/**
+ * Every collision attribute between two rectangles: the intersection points of their boundaries,
+ * containment in both directions (inclusive), and their adjacent segments
+ * @param intersections
+ * @param rect1ContainsRect2
+ * @param rect2ContainsRect1
+ * @param adjacencyList
+ */
+public record CollisionAttributes(
+        Vector2[] intersections,
+        boolean rect1ContainsRect2,
+        boolean rect2ContainsRect1,
+        Adjacency[] adjacencyList
+) {
+
+    /**
+     * Checks if the rectangles intersect, contain one another or are adjacent
+     * @return true if any attribute is present
+     */
+    public boolean isColliding() {
+        return intersections.length > 0 || rect1ContainsRect2 || rect2ContainsRect1 ||
+                adjacencyList.length > 0;
+    }
+}
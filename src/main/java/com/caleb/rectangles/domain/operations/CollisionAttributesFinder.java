@@ -0,0 +1,26 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+public class CollisionAttributesFinder implements ICollisionAttributesFinder {
+
+    private final IAdjacencyFinder adjacencyFinder;
+    private final IIntersectionFinder intersectionFinder;
+
+    public CollisionAttributesFinder(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder
+    ) {
+        this.adjacencyFinder = adjacencyFinder;
+        this.intersectionFinder = intersectionFinder;
+    }
+
+    public CollisionAttributes findAll(Rectangle rect1, Rectangle rect2) {
+        return new CollisionAttributes(
+                intersectionFinder.findAll(rect1, rect2),
+                rect1.contains(rect2),
+                rect2.contains(rect1),
+                adjacencyFinder.findAll(rect1, rect2)
+        );
+    }
+}
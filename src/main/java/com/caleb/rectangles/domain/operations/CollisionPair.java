@@ -0,0 +1,10 @@
+package com.caleb.rectangles.domain.operations;
+
+/**
+ * Two colliding rectangles, identified by their indices in the input, and their collision attributes.
+ * The first index is always less than the second and the attributes are computed as (first, second).
+ * @param first
+ * @param second
+ * @param attributes
+ */
+public record CollisionPair(int first, int second, CollisionAttributes attributes) {}
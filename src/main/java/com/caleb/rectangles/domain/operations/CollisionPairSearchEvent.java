@@ -0,0 +1,57 @@
+package com.caleb.rectangles.domain.operations;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one search of a collision pair finder
+ */
+@Name("com.caleb.rectangles.CollisionPairSearch")
+@Label("Collision Pair Search")
+@Category({"Rectangles", "Engines"})
+@Description("One search for all colliding pairs among a set of rectangles")
+@Enabled(false)
+@StackTrace(false)
+class CollisionPairSearchEvent extends jdk.jfr.Event {
+
+    @Label("Finder")
+    String finder;
+
+    @Label("Rectangles")
+    int rectangles;
+
+    @Label("Candidate Pairs")
+    @Description("Pairs whose bounds overlap on both axes, which are tested in full")
+    long candidatePairs;
+
+    @Label("Colliding Pairs")
+    int collidingPairs;
+
+    @Label("Pruning Ratio")
+    @Description("Share of all pairs that the sweep skipped without testing")
+    @Percentage
+    double pruningRatio;
+
+    /**
+     * Fills in the counts of a finished search and commits the event
+     * @param finder
+     * @param rectangles
+     * @param candidatePairs
+     * @param collidingPairs
+     */
+    void commitSearch(Class<?> finder, int rectangles, long candidatePairs, int collidingPairs) {
+        if (!shouldCommit()) return;
+        this.finder = finder.getSimpleName();
+        this.rectangles = rectangles;
+        this.candidatePairs = candidatePairs;
+        this.collidingPairs = collidingPairs;
+        long allPairs = (long) rectangles * (rectangles - 1) / 2;
+        this.pruningRatio = allPairs == 0 ? 0.0 : 1.0 - (double) candidatePairs / allPairs;
+        commit();
+    }
+}
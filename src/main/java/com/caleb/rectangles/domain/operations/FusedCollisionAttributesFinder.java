@@ -0,0 +1,70 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Vector2;
+
+/**
+ * Finds any combination of collision attributes in one pass over the edges of the two rectangles. The edges
+ * are derived once, and pairs whose closed bounds do not overlap are rejected before any attribute is
+ * computed, since such pairs can have no intersections, containment or adjacency. Results and their order
+ * are identical to {@link IntersectionFinder}, {@link Rectangle#contains} and {@link AdjacencyFinder}.
+ */
+public class FusedCollisionAttributesFinder implements ICollisionAttributesFinder {
+
+    private static final Vector2[] NO_INTERSECTIONS = new Vector2[0];
+    private static final Adjacency[] NO_ADJACENCIES = new Adjacency[0];
+    private static final CollisionAttributes NONE = new CollisionAttributes(
+            NO_INTERSECTIONS, false, false, NO_ADJACENCIES
+    );
+
+    public CollisionAttributes findAll(Rectangle rect1, Rectangle rect2) {
+        return findAll(rect1, rect2, true, true, true);
+    }
+
+    /**
+     * Finds the requested collision attributes between two rectangles. Attributes that are not requested are
+     * left empty.
+     * @param rect1
+     * @param rect2
+     * @param findIntersections
+     * @param findContainment
+     * @param findAdjacency
+     * @return collision attributes of the two rectangles
+     */
+    public CollisionAttributes findAll(
+            Rectangle rect1, Rectangle rect2,
+            boolean findIntersections, boolean findContainment, boolean findAdjacency
+    ) {
+        double left1 = rect1.left();
+        double right1 = rect1.right();
+        double top1 = rect1.top();
+        double bottom1 = rect1.bottom();
+        double left2 = rect2.left();
+        double right2 = rect2.right();
+        double top2 = rect2.top();
+        double bottom2 = rect2.bottom();
+        if (!Rectangle.overlaps(left1, right1, top1, bottom1, left2, right2, top2, bottom2)) return NONE;
+
+        var intersections = NO_INTERSECTIONS;
+        if (findIntersections) {
+            var sink = new double[2 * IntersectionFinder.MAX_INTERSECTIONS];
+            int count = IntersectionFinder.findAll(left1, right1, top1, bottom1, left2, right2, top2, bottom2, sink);
+            intersections = new Vector2[count];
+            for (int i = 0; i < count; i++)
+                intersections[i] = new Vector2(sink[2 * i], sink[2 * i + 1]);
+        }
+        var rect1ContainsRect2 = findContainment &&
+                Rectangle.contains(left1, right1, top1, bottom1, left2, right2, top2, bottom2);
+        var rect2ContainsRect1 = findContainment &&
+                Rectangle.contains(left2, right2, top2, bottom2, left1, right1, top1, bottom1);
+        var adjacencyList = NO_ADJACENCIES;
+        if (findAdjacency) {
+            var adjacencyBuffer = new AdjacencyBuffer();
+            ClosedFormAdjacencyFinder.findAll(
+                    left1, right1, top1, bottom1, left2, right2, top2, bottom2, adjacencyBuffer
+            );
+            adjacencyList = adjacencyBuffer.toArray();
+        }
+        return new CollisionAttributes(intersections, rect1ContainsRect2, rect2ContainsRect1, adjacencyList);
+    }
+}
@@ -0,0 +1,13 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+public interface ICollisionAttributesFinder {
+    /**
+     * Finds the intersections, containment and adjacency between two rectangles
+     * @param rect1
+     * @param rect2
+     * @return collision attributes of the two rectangles
+     */
+    CollisionAttributes findAll(Rectangle rect1, Rectangle rect2);
+}
@@ -0,0 +1,12 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+public interface ICollisionPairFinder {
+    /**
+     * Finds every pair of rectangles that intersect, contain one another or are adjacent
+     * @param rectangles
+     * @return colliding pairs ordered by first index, then second index
+     */
+    CollisionPair[] findAll(Rectangle[] rectangles);
+}
@@ -0,0 +1,52 @@
+package com.caleb.rectangles.domain.operations;
+
+public final class IndexSorter {
+
+    private IndexSorter() {}
+
+    /**
+     * Sorts the indices 0 to count - 1 by their keys in ascending order using {@link Double#compare}.
+     * The sort is stable, so indices with equal keys stay in ascending order.
+     * @param keys
+     * @param count
+     * @return sorted indices
+     */
+    public static int[] sortedIndices(double[] keys, int count) {
+        var indices = new int[count];
+        for (int i = 0; i < count; i++) indices[i] = i;
+        sort(indices, keys);
+        return indices;
+    }
+
+    /**
+     * Stable merge sort of indices by their keys, allocating a single scratch array
+     * @param indices
+     * @param keys
+     */
+    public static void sort(int[] indices, double[] keys) {
+        var source = indices;
+        var target = new int[indices.length];
+        for (int width = 1; width < indices.length; width *= 2) {
+            for (int lower = 0; lower < indices.length; lower += 2 * width) {
+                int middle = Math.min(lower + width, indices.length);
+                int upper = Math.min(lower + 2 * width, indices.length);
+                merge(source, target, keys, lower, middle, upper);
+            }
+            var swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != indices) System.arraycopy(source, 0, indices, 0, indices.length);
+    }
+
+    private static void merge(int[] source, int[] target, double[] keys, int lower, int middle, int upper) {
+        int left = lower;
+        int right = middle;
+        for (int i = lower; i < upper; i++) {
+            if (left < middle && (right >= upper || Double.compare(keys[source[left]], keys[source[right]]) <= 0))
+                target[i] = source[left++];
+            else
+                target[i] = source[right++];
+        }
+    }
+}
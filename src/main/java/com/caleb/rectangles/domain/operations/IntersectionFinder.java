@@ -1,23 +1,80 @@
 package com.caleb.rectangles.domain.operations;
 
-import com.caleb.rectangles.domain.LineSegment;
 import com.caleb.rectangles.domain.Rectangle;
 import com.caleb.rectangles.domain.Vector2;
 
-import java.util.HashSet;
-
 public class IntersectionFinder implements  IIntersectionFinder {
 
+    /**
+     * The most unique intersection points two rectangles can have: each of the two horizontal edges of one
+     * rectangle crossing each of the two vertical edges of the other, and vice versa
+     */
+    public static final int MAX_INTERSECTIONS = 8;
+
     public Vector2[] findAll(Rectangle rectangleA, Rectangle rectangleB) {
-        var intersections = new HashSet<Vector2>();
+        var sink = new double[2 * MAX_INTERSECTIONS];
+        int count = findAll(
+                rectangleA.left(), rectangleA.right(), rectangleA.top(), rectangleA.bottom(),
+                rectangleB.left(), rectangleB.right(), rectangleB.top(), rectangleB.bottom(),
+                sink
+        );
+        var intersections = new Vector2[count];
+        for (int i = 0; i < count; i++) {
+            intersections[i] = new Vector2(sink[2 * i], sink[2 * i + 1]);
+        }
+        return intersections;
+    }
+
+    /**
+     * Finds all the unique intersections between the edges of two rectangles without allocating.
+     * Points are written to the sink as consecutive x, y pairs.
+     * @param leftA
+     * @param rightA
+     * @param topA
+     * @param bottomA
+     * @param leftB
+     * @param rightB
+     * @param topB
+     * @param bottomB
+     * @param sink receives the coordinates, must hold at least 2 * {@link #MAX_INTERSECTIONS} values
+     * @return the number of intersection points written to the sink
+     */
+    public static int findAll(
+            double leftA, double rightA, double topA, double bottomA,
+            double leftB, double rightB, double topB, double bottomB,
+            double[] sink
+    ) {
+        if (sink.length < 2 * MAX_INTERSECTIONS)
+            throw new IllegalArgumentException("The sink must hold at least " + 2 * MAX_INTERSECTIONS + " values");
+        int count = 0;
+        count = addIfCrossing(sink, count, topA, leftA, rightA, rightB, bottomB, topB);
+        count = addIfCrossing(sink, count, topA, leftA, rightA, leftB, bottomB, topB);
+        count = addIfCrossing(sink, count, topB, leftB, rightB, rightA, bottomA, topA);
+        count = addIfCrossing(sink, count, bottomB, leftB, rightB, rightA, bottomA, topA);
+        count = addIfCrossing(sink, count, bottomA, leftA, rightA, rightB, bottomB, topB);
+        count = addIfCrossing(sink, count, bottomA, leftA, rightA, leftB, bottomB, topB);
+        count = addIfCrossing(sink, count, topB, leftB, rightB, leftA, bottomA, topA);
+        count = addIfCrossing(sink, count, bottomB, leftB, rightB, leftA, bottomA, topA);
+        return count;
+    }
+
+    private static int addIfCrossing(
+            double[] sink, int count,
+            double horizontalY, double horizontalLeft, double horizontalRight,
+            double verticalX, double verticalBottom, double verticalTop
+    ) {
+        var edgesCross = verticalX >= horizontalLeft && verticalX <= horizontalRight &&
+                horizontalY >= verticalBottom && horizontalY <= verticalTop;
+        if (!edgesCross || isAlreadyInSink(sink, count, verticalX, horizontalY)) return count;
+        sink[2 * count] = verticalX;
+        sink[2 * count + 1] = horizontalY;
+        return count + 1;
+    }
 
-        for (LineSegment segmentA : rectangleA.segments()) {
-            for (LineSegment segmentB : rectangleB.segments()) {
-                var intersection = segmentA.intersectionWith(segmentB);
-                if (intersection.isEmpty()) continue;
-                intersections.add(intersection.get());
-            }
+    private static boolean isAlreadyInSink(double[] sink, int count, double x, double y) {
+        for (int i = 0; i < count; i++) {
+            if (Double.compare(sink[2 * i], x) == 0 && Double.compare(sink[2 * i + 1], y) == 0) return true;
         }
-        return intersections.toArray(new Vector2[0]);
+        return false;
     }
 }
@@ -0,0 +1,111 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sweep-and-prune collision pair finder that splits the sweep order into tiles processed on a
+ * {@link ForkJoinPool}. A pair belongs to the tile holding whichever of its rectangles the sweep reaches
+ * last, so pairs straddling a tile boundary are found exactly once. Results are identical to
+ * {@link SweepAndPruneCollisionPairFinder}, and the finders it is given must be safe to call concurrently.
+ */
+public class ParallelCollisionPairFinder implements ICollisionPairFinder {
+
+    private static final int MIN_TILE_SIZE = 512;
+    private static final int TILES_PER_THREAD = 4;
+
+    private final ICollisionAttributesFinder collisionAttributesFinder;
+    private final ForkJoinPool pool;
+
+    public ParallelCollisionPairFinder(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder
+    ) {
+        this(adjacencyFinder, intersectionFinder, ForkJoinPool.commonPool());
+    }
+
+    public ParallelCollisionPairFinder(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder,
+            ForkJoinPool pool
+    ) {
+        this(new CollisionAttributesFinder(adjacencyFinder, intersectionFinder), pool);
+    }
+
+    public ParallelCollisionPairFinder(ICollisionAttributesFinder collisionAttributesFinder, ForkJoinPool pool) {
+        this.collisionAttributesFinder = collisionAttributesFinder;
+        this.pool = pool;
+    }
+
+    public CollisionPair[] findAll(Rectangle[] rectangles) {
+        var event = new CollisionPairSearchEvent();
+        event.begin();
+        var edges = new RectangleBuffer(rectangles.length);
+        for (Rectangle rectangle : rectangles) edges.add(rectangle);
+        var sweepOrder = SweepAndPrune.sweepOrder(edges);
+        int tileSize = Math.max(MIN_TILE_SIZE, rectangles.length / (pool.getParallelism() * TILES_PER_THREAD) + 1);
+
+        var candidatePairs = new LongAdder();
+        var collisionPairs = pool.invoke(
+                new TileTask(rectangles, edges, sweepOrder, 0, sweepOrder.length, tileSize, candidatePairs)
+        );
+        collisionPairs.sort(Comparator.comparingInt(CollisionPair::first).thenComparingInt(CollisionPair::second));
+        event.commitSearch(getClass(), rectangles.length, candidatePairs.sum(), collisionPairs.size());
+        return collisionPairs.toArray(new CollisionPair[0]);
+    }
+
+    private class TileTask extends RecursiveTask<ArrayList<CollisionPair>> {
+
+        private final Rectangle[] rectangles;
+        private final RectangleBuffer edges;
+        private final int[] sweepOrder;
+        private final int from;
+        private final int to;
+        private final int tileSize;
+        private final LongAdder candidatePairs;
+
+        TileTask(
+                Rectangle[] rectangles, RectangleBuffer edges, int[] sweepOrder, int from, int to, int tileSize,
+                LongAdder candidatePairs
+        ) {
+            this.rectangles = rectangles;
+            this.edges = edges;
+            this.sweepOrder = sweepOrder;
+            this.from = from;
+            this.to = to;
+            this.tileSize = tileSize;
+            this.candidatePairs = candidatePairs;
+        }
+
+        @Override
+        protected ArrayList<CollisionPair> compute() {
+            if (to - from <= tileSize) return findTilePairs();
+            int middle = (from + to) >>> 1;
+            var upper = new TileTask(rectangles, edges, sweepOrder, middle, to, tileSize, candidatePairs);
+            upper.fork();
+            var collisionPairs = new TileTask(rectangles, edges, sweepOrder, from, middle, tileSize, candidatePairs)
+                    .compute();
+            collisionPairs.addAll(upper.join());
+            return collisionPairs;
+        }
+
+        private ArrayList<CollisionPair> findTilePairs() {
+            var collisionPairs = new ArrayList<CollisionPair>();
+            var tileCandidatePairs = new long[1];
+            SweepAndPrune.forEachCandidatePair(edges, sweepOrder, from, to, (first, second) -> {
+                tileCandidatePairs[0]++;
+                var attributes = collisionAttributesFinder.findAll(rectangles[first], rectangles[second]);
+                if (attributes.isColliding())
+                    collisionPairs.add(new CollisionPair(first, second, attributes));
+            });
+            candidatePairs.add(tileCandidatePairs[0]);
+            return collisionPairs;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+
+/**
+ * Sort-and-sweep broad phase over rectangle edges. Rectangles are sorted by their left edge and swept
+ * along the x-axis, keeping only those whose right edge has not yet been passed, so the cost is
+ * O(n log n + k) for k candidate pairs rather than O(n²).
+ */
+public final class SweepAndPrune {
+
+    private SweepAndPrune() {}
+
+    /**
+     * Reports every pair of rectangles whose closed bounds overlap, including pairs that only touch.
+     * These are the only pairs that can intersect, contain one another or be adjacent.
+     * @param left left edge of each rectangle
+     * @param right right edge of each rectangle
+     * @param top top edge of each rectangle
+     * @param bottom bottom edge of each rectangle
+     * @param count number of rectangles
+     * @param consumer receives each candidate pair once with the lower index first
+     */
+    public static void forEachCandidatePair(
+            double[] left, double[] right, double[] top, double[] bottom, int count,
+            CandidatePairConsumer consumer
+    ) {
+        forEachCandidatePair(new EdgeArrays(left, right, top, bottom, count), consumer);
+    }
+
+    /**
+     * Reports every pair of rectangles whose closed bounds overlap, reading the edges in place.
+     * Only the left edges are copied, to serve as sort keys.
+     * @param edges
+     * @param consumer receives each candidate pair once with the lower index first
+     */
+    public static void forEachCandidatePair(IRectangleEdges edges, CandidatePairConsumer consumer) {
+        var sweepOrder = sweepOrder(edges);
+        forEachCandidatePair(edges, sweepOrder, 0, sweepOrder.length, consumer);
+    }
+
+    /**
+     * Orders rectangle indices by left edge, the order in which the sweep visits them
+     * @param edges
+     * @return indices sorted by left edge, ties kept in index order
+     */
+    public static int[] sweepOrder(IRectangleEdges edges) {
+        int count = edges.size();
+        var left = new double[count];
+        for (int i = 0; i < count; i++) left[i] = edges.left(i);
+        return IndexSorter.sortedIndices(left, count);
+    }
+
+    /**
+     * Reports the candidate pairs whose later rectangle in the sweep order has a position in [from, to).
+     * Every pair has exactly one such position, so disjoint ranges report disjoint sets of pairs and can be
+     * swept independently, e.g. on separate threads.
+     * @param edges
+     * @param sweepOrder indices as returned by {@link #sweepOrder(IRectangleEdges)}
+     * @param from first position in the sweep order, inclusive
+     * @param to last position in the sweep order, exclusive
+     * @param consumer receives each candidate pair once with the lower index first
+     */
+    public static void forEachCandidatePair(
+            IRectangleEdges edges, int[] sweepOrder, int from, int to,
+            CandidatePairConsumer consumer
+    ) {
+        var active = new int[Math.max(to, 1)];
+        int activeCount = activateEarlierRectangles(edges, sweepOrder, from, active);
+        for (int position = from; position < to; position++) {
+            int next = sweepOrder[position];
+            double nextLeft = edges.left(next);
+            double nextTop = edges.top(next);
+            double nextBottom = edges.bottom(next);
+            int i = 0;
+            while (i < activeCount) {
+                int current = active[i];
+                if (edges.right(current) < nextLeft) {
+                    active[i] = active[--activeCount];
+                    continue;
+                }
+                if (edges.bottom(current) <= nextTop && nextBottom <= edges.top(current))
+                    consumer.accept(Math.min(current, next), Math.max(current, next));
+                i++;
+            }
+            active[activeCount++] = next;
+        }
+    }
+
+    /**
+     * Fills the active set a full sweep would hold on reaching the given position. A rectangle leaves the
+     * set once some later left edge passes its right edge. Left edges only grow along the sweep, and NaN
+     * edges sort last and never pass anything, so the last non-NaN left edge before the position decides.
+     */
+    private static int activateEarlierRectangles(IRectangleEdges edges, int[] sweepOrder, int from, int[] active) {
+        int lastComparable = from - 1;
+        while (lastComparable >= 0 && Double.isNaN(edges.left(sweepOrder[lastComparable]))) lastComparable--;
+        int activeCount = 0;
+        for (int position = 0; position < from; position++) {
+            int earlier = sweepOrder[position];
+            if (position >= lastComparable || !(edges.right(earlier) < edges.left(sweepOrder[lastComparable])))
+                active[activeCount++] = earlier;
+        }
+        return activeCount;
+    }
+
+    private record EdgeArrays(
+            double[] left, double[] right, double[] top, double[] bottom, int size
+    ) implements IRectangleEdges {
+        public double left(int i) { return left[i]; }
+        public double right(int i) { return right[i]; }
+        public double top(int i) { return top[i]; }
+        public double bottom(int i) { return bottom[i]; }
+    }
+
+    @FunctionalInterface
+    public interface CandidatePairConsumer {
+        void accept(int first, int second);
+    }
+}
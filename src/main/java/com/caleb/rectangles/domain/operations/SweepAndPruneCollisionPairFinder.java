@@ -0,0 +1,50 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+public class SweepAndPruneCollisionPairFinder implements ICollisionPairFinder {
+
+    private final ICollisionAttributesFinder collisionAttributesFinder;
+
+    public SweepAndPruneCollisionPairFinder(
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder
+    ) {
+        this(new CollisionAttributesFinder(adjacencyFinder, intersectionFinder));
+    }
+
+    public SweepAndPruneCollisionPairFinder(ICollisionAttributesFinder collisionAttributesFinder) {
+        this.collisionAttributesFinder = collisionAttributesFinder;
+    }
+
+    public CollisionPair[] findAll(Rectangle[] rectangles) {
+        var event = new CollisionPairSearchEvent();
+        event.begin();
+        int count = rectangles.length;
+        var left = new double[count];
+        var right = new double[count];
+        var top = new double[count];
+        var bottom = new double[count];
+        for (int i = 0; i < count; i++) {
+            left[i] = rectangles[i].left();
+            right[i] = rectangles[i].right();
+            top[i] = rectangles[i].top();
+            bottom[i] = rectangles[i].bottom();
+        }
+
+        var collisionPairs = new ArrayList<CollisionPair>();
+        var candidatePairs = new long[1];
+        SweepAndPrune.forEachCandidatePair(left, right, top, bottom, count, (first, second) -> {
+            candidatePairs[0]++;
+            var attributes = collisionAttributesFinder.findAll(rectangles[first], rectangles[second]);
+            if (attributes.isColliding())
+                collisionPairs.add(new CollisionPair(first, second, attributes));
+        });
+        collisionPairs.sort(Comparator.comparingInt(CollisionPair::first).thenComparingInt(CollisionPair::second));
+        event.commitSearch(getClass(), count, candidatePairs[0], collisionPairs.size());
+        return collisionPairs.toArray(new CollisionPair[0]);
+    }
+}
@@ -0,0 +1,82 @@
+package com.caleb.rectangles.hierarchy;
+
+/**
+ * Forest of rectangles in which the parent of each rectangle is its tightest container
+ */
+public final class ContainmentForest {
+
+    /** Parent of a rectangle that no other rectangle contains */
+    public static final int NO_PARENT = -1;
+
+    private final int[] parents;
+    private final int[] offsets;
+    private final int[] children;
+
+    /**
+     * @param parents parent of each rectangle, or {@link #NO_PARENT}
+     */
+    ContainmentForest(int[] parents) {
+        this.parents = parents;
+        int size = parents.length;
+        offsets = new int[size + 2];
+        for (int parent : parents) offsets[parent + 2]++;
+        for (int i = 0; i <= size; i++) offsets[i + 1] += offsets[i];
+        children = new int[size];
+        var next = offsets.clone();
+        for (int i = 0; i < size; i++) children[next[parents[i] + 1]++] = i;
+    }
+
+    /**
+     * @return number of rectangles
+     */
+    public int size() {
+        return parents.length;
+    }
+
+    /**
+     * @return parent of each rectangle, or {@link #NO_PARENT}
+     */
+    public int[] parents() {
+        return parents.clone();
+    }
+
+    /**
+     * @param rectangle
+     * @return tightest container of the rectangle, or {@link #NO_PARENT}
+     */
+    public int parent(int rectangle) {
+        return parents[rectangle];
+    }
+
+    /**
+     * @return indices of the rectangles that no other rectangle contains, in ascending order
+     */
+    public int[] roots() {
+        return slice(NO_PARENT);
+    }
+
+    /**
+     * @param rectangle
+     * @return indices of the rectangles whose tightest container is the rectangle, in ascending order
+     */
+    public int[] children(int rectangle) {
+        if (rectangle < 0 || rectangle >= parents.length) throw new IndexOutOfBoundsException(rectangle);
+        return slice(rectangle);
+    }
+
+    /**
+     * @param rectangle
+     * @return number of ancestors of the rectangle
+     */
+    public int depth(int rectangle) {
+        int depth = 0;
+        for (int parent = parents[rectangle]; parent != NO_PARENT; parent = parents[parent]) depth++;
+        return depth;
+    }
+
+    private int[] slice(int parent) {
+        var result = new int[offsets[parent + 2] - offsets[parent + 1]];
+        System.arraycopy(children, offsets[parent + 1], result, 0, result.length);
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package com.caleb.rectangles.hierarchy;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.operations.IndexSorter;
+import com.caleb.rectangles.index.RTree;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Builds the containment forest of many rectangles using the inclusive semantics of {@link Rectangle#contains}.
+ * Rectangles are ranked so that every container of a rectangle ranks before it, and rectangles with identical
+ * edges nest in index order. An {@link RTree} then finds the containers of each rectangle and the one ranked last
+ * before it becomes its parent. In a nested layout the containers of a rectangle form a chain and this is the
+ * tightest one. When containers overlap without nesting, the smallest is chosen.
+ * <p>
+ * Every container of every rectangle is visited, so the build costs O(n log n + n × d) for nesting depth d. This
+ * suits layouts a few levels deep; a single chain of n nested rectangles takes O(n²).
+ */
+public class ContainmentForestBuilder {
+
+    /**
+     * @param rectangles
+     * @return containment forest of the rectangles
+     */
+    public ContainmentForest build(Rectangle[] rectangles) {
+        return build(RectangleBuffer.of(rectangles));
+    }
+
+    /**
+     * @param edges
+     * @return containment forest of the rectangles with the edges
+     */
+    public ContainmentForest build(IRectangleEdges edges) {
+        int count = edges.size();
+        var ranks = rank(edges);
+        var tree = new RTree(edges, RTree.DEFAULT_NODE_CAPACITY);
+        var parents = new int[count];
+        var tightest = new int[1];
+        for (int i = 0; i < count; i++) {
+            int rank = ranks[i];
+            tightest[0] = ContainmentForest.NO_PARENT;
+            tree.forEachContaining(edges.left(i), edges.right(i), edges.top(i), edges.bottom(i), container -> {
+                int containerRank = ranks[container];
+                if (containerRank < rank && (tightest[0] == ContainmentForest.NO_PARENT || containerRank > ranks[tightest[0]]))
+                    tightest[0] = container;
+            });
+            parents[i] = tightest[0];
+        }
+        return new ContainmentForest(parents);
+    }
+
+    /**
+     * Ranks by the extent of the edges rather than the stored size, since a rounded edge can place a wider
+     * rectangle inside a narrower one. Area, width and height, all descending, come first. Extents are rounded
+     * differences, so a container can tie with what it contains, and those ties are broken by the edges
+     * themselves: left and bottom ascending, right and top descending. A container is never behind on any of
+     * these keys, so it ties on all of them only when the edges are identical, and the index decides.
+     */
+    private static int[] rank(IRectangleEdges edges) {
+        int count = edges.size();
+        var keys = new double[count];
+        fillKeys(keys, i -> -edges.top(i));
+        var order = IndexSorter.sortedIndices(keys, count);
+        sortBy(order, keys, edges::bottom);
+        sortBy(order, keys, i -> -edges.right(i));
+        sortBy(order, keys, edges::left);
+        sortBy(order, keys, i -> -(edges.top(i) - edges.bottom(i)));
+        sortBy(order, keys, i -> -(edges.right(i) - edges.left(i)));
+        sortBy(order, keys, i -> -((edges.right(i) - edges.left(i)) * (edges.top(i) - edges.bottom(i))));
+        var ranks = new int[count];
+        for (int rank = 0; rank < count; rank++) ranks[order[rank]] = rank;
+        return ranks;
+    }
+
+    private static void sortBy(int[] order, double[] keys, IntToDoubleFunction key) {
+        fillKeys(keys, key);
+        IndexSorter.sort(order, keys);
+    }
+
+    /**
+     * Adding zero turns -0.0 into 0.0, which the containment comparisons treat as equal
+     */
+    private static void fillKeys(double[] keys, IntToDoubleFunction key) {
+        for (int i = 0; i < keys.length; i++) keys[i] = key.applyAsDouble(i) + 0.0;
+    }
+}
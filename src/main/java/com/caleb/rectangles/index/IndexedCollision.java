@@ -0,0 +1,11 @@
+package com.caleb.rectangles.index;
+
+import com.caleb.rectangles.domain.operations.CollisionAttributes;
+
+/**
+ * A stored rectangle that collides with a probe, identified by its index in the input of an {@link RTree}
+ * or its id in a {@link SpatialHashGrid}, with the collision attributes computed as (probe, stored rectangle)
+ * @param index
+ * @param attributes
+ */
+public record IndexedCollision(int index, CollisionAttributes attributes) {}
@@ -0,0 +1,367 @@
+package com.caleb.rectangles.index;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.operations.CollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.ICollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IIntersectionFinder;
+import com.caleb.rectangles.domain.operations.IndexSorter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Static R-tree over rectangles, bulk loaded with Sort-Tile-Recursive (STR) packing. Each level is sorted
+ * into vertical slices by center x, each slice is sorted by center y, and consecutive runs are packed
+ * into full nodes, which keeps nodes square and overlap between siblings low.
+ * Nodes are stored in flat arrays with the leaves first and the root last, and the edges of the entries are
+ * copied in leaf order so that searches read them sequentially.
+ * <p>
+ * A tree built from {@link IRectangleEdges} answers the index-based searches only, since it holds no
+ * {@link Rectangle} objects to compute collision attributes from.
+ */
+public class RTree {
+
+    public static final int DEFAULT_NODE_CAPACITY = 16;
+
+    private final Rectangle @Nullable [] rectangles;
+    private final @Nullable ICollisionAttributesFinder collisionAttributesFinder;
+    private final int nodeCapacity;
+    private final int[] entries;
+    private final double[] entryLeft;
+    private final double[] entryRight;
+    private final double[] entryTop;
+    private final double[] entryBottom;
+    private int leafNodeCount;
+    private int nodeCount;
+    private int height;
+    private double[] nodeLeft;
+    private double[] nodeRight;
+    private double[] nodeTop;
+    private double[] nodeBottom;
+    private int[] nodeFirstChild;
+    private int[] nodeChildCount;
+
+    public RTree(
+            Rectangle[] rectangles,
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder
+    ) {
+        this(rectangles, DEFAULT_NODE_CAPACITY, new CollisionAttributesFinder(adjacencyFinder, intersectionFinder));
+    }
+
+    public RTree(
+            Rectangle[] rectangles, int nodeCapacity,
+            ICollisionAttributesFinder collisionAttributesFinder
+    ) {
+        this(rectangles.clone(), new RectangleArrayEdges(rectangles), nodeCapacity, collisionAttributesFinder);
+    }
+
+    /**
+     * Builds a tree that reads the edges in place, for inputs too large to hold as {@link Rectangle} objects
+     * @param edges
+     * @param nodeCapacity
+     */
+    public RTree(IRectangleEdges edges, int nodeCapacity) {
+        this(null, edges, nodeCapacity, null);
+    }
+
+    private RTree(
+            Rectangle @Nullable [] rectangles, IRectangleEdges edges, int nodeCapacity,
+            @Nullable ICollisionAttributesFinder collisionAttributesFinder
+    ) {
+        if (nodeCapacity < 2) throw new IllegalArgumentException("The node capacity must be at least 2");
+        this.rectangles = rectangles;
+        this.nodeCapacity = nodeCapacity;
+        this.collisionAttributesFinder = collisionAttributesFinder;
+        int count = edges.size();
+        this.entries = new int[count];
+        this.entryLeft = new double[count];
+        this.entryRight = new double[count];
+        this.entryTop = new double[count];
+        this.entryBottom = new double[count];
+        bulkLoad(edges);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * @param index
+     * @return stored rectangle
+     * @throws IllegalStateException if the tree was built from edges
+     */
+    public Rectangle rectangle(int index) {
+        return requireRectangles()[index];
+    }
+
+    /**
+     * Finds every stored rectangle that intersects, contains, is contained by or is adjacent to the probe
+     * @param probe
+     * @return collisions ordered by index, with attributes computed as (probe, stored rectangle)
+     * @throws IllegalStateException if the tree was built from edges
+     */
+    public IndexedCollision[] findCollisions(Rectangle probe) {
+        var rectangles = requireRectangles();
+        var collisions = new ArrayList<IndexedCollision>();
+        forEachOverlapping(probe.left(), probe.right(), probe.top(), probe.bottom(), index -> {
+            var attributes = collisionAttributesFinder.findAll(probe, rectangles[index]);
+            if (attributes.isColliding()) collisions.add(new IndexedCollision(index, attributes));
+        });
+        collisions.sort(Comparator.comparingInt(IndexedCollision::index));
+        return collisions.toArray(new IndexedCollision[0]);
+    }
+
+    /**
+     * Visits the index of every stored rectangle whose closed bounds share at least one point with the given edges
+     * @param left
+     * @param right
+     * @param top
+     * @param bottom
+     * @param consumer
+     */
+    public void forEachOverlapping(double left, double right, double top, double bottom, IntConsumer consumer) {
+        search(left, right, top, bottom, false, consumer);
+    }
+
+    /**
+     * Visits the index of every stored rectangle that contains (inclusive) the rectangle with the given edges
+     * @param left
+     * @param right
+     * @param top
+     * @param bottom
+     * @param consumer
+     */
+    public void forEachContaining(double left, double right, double top, double bottom, IntConsumer consumer) {
+        search(left, right, top, bottom, true, consumer);
+    }
+
+    private void search(
+            double left, double right, double top, double bottom,
+            boolean mustContain, IntConsumer consumer
+    ) {
+        if (nodeCount == 0) return;
+        var stack = new int[height * nodeCapacity + 1];
+        int stackSize = 0;
+        stack[stackSize++] = nodeCount - 1;
+        while (stackSize > 0) {
+            int node = stack[--stackSize];
+            if (!matches(nodeLeft[node], nodeRight[node], nodeTop[node], nodeBottom[node],
+                    left, right, top, bottom, mustContain)) continue;
+            int firstChild = nodeFirstChild[node];
+            int lastChild = firstChild + nodeChildCount[node];
+            if (node >= leafNodeCount) {
+                for (int child = firstChild; child < lastChild; child++) stack[stackSize++] = child;
+                continue;
+            }
+            for (int i = firstChild; i < lastChild; i++) {
+                if (matches(entryLeft[i], entryRight[i], entryTop[i], entryBottom[i],
+                        left, right, top, bottom, mustContain))
+                    consumer.accept(entries[i]);
+            }
+        }
+    }
+
+    private static boolean matches(
+            double left1, double right1, double top1, double bottom1,
+            double left2, double right2, double top2, double bottom2,
+            boolean mustContain
+    ) {
+        return mustContain ?
+                Rectangle.contains(left1, right1, top1, bottom1, left2, right2, top2, bottom2) :
+                Rectangle.overlaps(left1, right1, top1, bottom1, left2, right2, top2, bottom2);
+    }
+
+    private Rectangle[] requireRectangles() {
+        if (rectangles == null) throw new IllegalStateException("The tree was built from edges and holds no rectangles");
+        return rectangles;
+    }
+
+    private void bulkLoad(IRectangleEdges edges) {
+        int count = edges.size();
+        var level = new Level(count);
+        for (int i = 0; i < count; i++) {
+            level.set(i, edges.left(i), edges.right(i), edges.top(i), edges.bottom(i), i, 0);
+        }
+        var nodeCapacityEstimate = Math.max(1, 2 * (count / (nodeCapacity - 1) + 1));
+        allocateNodes(nodeCapacityEstimate);
+
+        var order = tileOrder(level);
+        for (int i = 0; i < count; i++) {
+            entries[i] = level.firstChild[order[i]];
+            entryLeft[i] = level.left[order[i]];
+            entryRight[i] = level.right[order[i]];
+            entryTop[i] = level.top[order[i]];
+            entryBottom[i] = level.bottom[order[i]];
+        }
+        level = packLeaves(level, order);
+        leafNodeCount = level.count;
+        height = count == 0 ? 0 : 1;
+        while (level.count > 1) {
+            order = tileOrder(level);
+            int start = appendNodes(level, order);
+            level = packParents(level, order, start);
+            height++;
+        }
+        if (level.count == 1) appendNodes(level, new int[] { 0 });
+    }
+
+    private Level packLeaves(Level entryLevel, int[] order) {
+        var leaves = new Level(ceilDiv(entryLevel.count, nodeCapacity));
+        for (int node = 0; node < leaves.count; node++) {
+            int first = node * nodeCapacity;
+            int last = Math.min(first + nodeCapacity, entryLevel.count);
+            leaves.set(node, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, first, last - first);
+            for (int i = first; i < last; i++) leaves.expand(node, entryLevel, order[i]);
+        }
+        return leaves;
+    }
+
+    private Level packParents(Level children, int[] order, int start) {
+        var parents = new Level(ceilDiv(children.count, nodeCapacity));
+        for (int node = 0; node < parents.count; node++) {
+            int first = node * nodeCapacity;
+            int last = Math.min(first + nodeCapacity, children.count);
+            parents.set(node, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, start + first, last - first);
+            for (int i = first; i < last; i++) parents.expand(node, children, order[i]);
+        }
+        return parents;
+    }
+
+    /**
+     * Orders the items of a level into vertical slices by center x and sorts each slice by center y
+     * @param level
+     * @return item order
+     */
+    private int[] tileOrder(Level level) {
+        int count = level.count;
+        var centerX = new double[count];
+        var centerY = new double[count];
+        for (int i = 0; i < count; i++) {
+            centerX[i] = level.left[i] / 2 + level.right[i] / 2;
+            centerY[i] = level.top[i] / 2 + level.bottom[i] / 2;
+        }
+        var order = IndexSorter.sortedIndices(centerX, count);
+        int nodesAtThisLevel = ceilDiv(count, nodeCapacity);
+        int sliceCount = (int) Math.ceil(Math.sqrt(nodesAtThisLevel));
+        int sliceSize = sliceCount == 0 ? count : ceilDiv(nodesAtThisLevel, sliceCount) * nodeCapacity;
+        for (int sliceStart = 0; sliceStart < count; sliceStart += sliceSize) {
+            int sliceEnd = Math.min(sliceStart + sliceSize, count);
+            var slice = Arrays.copyOfRange(order, sliceStart, sliceEnd);
+            IndexSorter.sort(slice, centerY);
+            System.arraycopy(slice, 0, order, sliceStart, slice.length);
+        }
+        return order;
+    }
+
+    private int appendNodes(Level level, int[] order) {
+        int start = nodeCount;
+        if (nodeCount + level.count > nodeLeft.length) allocateNodes(2 * (nodeCount + level.count));
+        for (int item : order) {
+            nodeLeft[nodeCount] = level.left[item];
+            nodeRight[nodeCount] = level.right[item];
+            nodeTop[nodeCount] = level.top[item];
+            nodeBottom[nodeCount] = level.bottom[item];
+            nodeFirstChild[nodeCount] = level.firstChild[item];
+            nodeChildCount[nodeCount] = level.childCount[item];
+            nodeCount++;
+        }
+        return start;
+    }
+
+    private void allocateNodes(int capacity) {
+        nodeLeft = nodeLeft == null ? new double[capacity] : Arrays.copyOf(nodeLeft, capacity);
+        nodeRight = nodeRight == null ? new double[capacity] : Arrays.copyOf(nodeRight, capacity);
+        nodeTop = nodeTop == null ? new double[capacity] : Arrays.copyOf(nodeTop, capacity);
+        nodeBottom = nodeBottom == null ? new double[capacity] : Arrays.copyOf(nodeBottom, capacity);
+        nodeFirstChild = nodeFirstChild == null ? new int[capacity] : Arrays.copyOf(nodeFirstChild, capacity);
+        nodeChildCount = nodeChildCount == null ? new int[capacity] : Arrays.copyOf(nodeChildCount, capacity);
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private record RectangleArrayEdges(Rectangle[] rectangles) implements IRectangleEdges {
+
+        @Override
+        public int size() {
+            return rectangles.length;
+        }
+
+        @Override
+        public double left(int i) {
+            return rectangles[i].left();
+        }
+
+        @Override
+        public double right(int i) {
+            return rectangles[i].right();
+        }
+
+        @Override
+        public double top(int i) {
+            return rectangles[i].top();
+        }
+
+        @Override
+        public double bottom(int i) {
+            return rectangles[i].bottom();
+        }
+    }
+
+    /**
+     * Bounds and children of the items on one level while the tree is being packed
+     */
+    private static class Level {
+        final int count;
+        final double[] left;
+        final double[] right;
+        final double[] top;
+        final double[] bottom;
+        final int[] firstChild;
+        final int[] childCount;
+
+        Level(int count) {
+            this.count = count;
+            left = new double[count];
+            right = new double[count];
+            top = new double[count];
+            bottom = new double[count];
+            firstChild = new int[count];
+            childCount = new int[count];
+        }
+
+        void set(int i, double left, double right, double top, double bottom, int firstChild, int childCount) {
+            this.left[i] = left;
+            this.right[i] = right;
+            this.top[i] = top;
+            this.bottom[i] = bottom;
+            this.firstChild[i] = firstChild;
+            this.childCount[i] = childCount;
+        }
+
+        /**
+         * Grows the bounds of item i to cover item j of another level. Comparisons are used rather than
+         * Math.min/max so that a NaN coordinate cannot poison the bounds of its siblings.
+         */
+        void expand(int i, Level other, int j) {
+            if (other.left[j] < left[i]) left[i] = other.left[j];
+            if (other.right[j] > right[i]) right[i] = other.right[j];
+            if (other.top[j] > top[i]) top[i] = other.top[j];
+            if (other.bottom[j] < bottom[i]) bottom[i] = other.bottom[j];
+        }
+    }
+}
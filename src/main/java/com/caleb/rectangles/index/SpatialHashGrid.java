@@ -0,0 +1,231 @@
+package com.caleb.rectangles.index;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.operations.CollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.ICollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IIntersectionFinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Dynamic uniform grid that hashes rectangles, identified by id, into every cell their closed bounds cover.
+ * Insert, move and remove only touch the cells of the rectangle involved, so their cost does not depend on
+ * how many rectangles are stored. A cell size close to the typical rectangle size works best.
+ * <p>
+ * Cell ranges are inclusive of both edges, so two rectangles whose edges touch exactly on a cell boundary
+ * both cover the cell on that boundary and are still found as neighbors.
+ */
+public class SpatialHashGrid {
+
+    private final double cellSize;
+    private final ICollisionAttributesFinder collisionAttributesFinder;
+    private final HashMap<Integer, Rectangle> rectangles = new HashMap<>();
+    private final HashMap<Long, Cell> cells = new HashMap<>();
+
+    public SpatialHashGrid(
+            double cellSize,
+            IAdjacencyFinder adjacencyFinder,
+            IIntersectionFinder intersectionFinder
+    ) {
+        this(cellSize, new CollisionAttributesFinder(adjacencyFinder, intersectionFinder));
+    }
+
+    public SpatialHashGrid(double cellSize, ICollisionAttributesFinder collisionAttributesFinder) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize))
+            throw new IllegalArgumentException("The cell size must be a finite number greater than zero");
+        this.cellSize = cellSize;
+        this.collisionAttributesFinder = collisionAttributesFinder;
+    }
+
+    public int size() {
+        return rectangles.size();
+    }
+
+    public boolean contains(int id) {
+        return rectangles.containsKey(id);
+    }
+
+    public Rectangle get(int id) {
+        return rectangles.get(id);
+    }
+
+    /**
+     * Adds a rectangle under a new id
+     * @param id
+     * @param rectangle
+     * @throws IllegalArgumentException if the id is already in use or the rectangle is not finite
+     */
+    public void insert(int id, Rectangle rectangle) {
+        var range = cellRange(rectangle);
+        if (rectangles.putIfAbsent(id, rectangle) != null)
+            throw new IllegalArgumentException("A rectangle with id " + id + " is already in the grid");
+        for (int cellX = range.minX; cellX <= range.maxX; cellX++) {
+            for (int cellY = range.minY; cellY <= range.maxY; cellY++) {
+                cells.computeIfAbsent(key(cellX, cellY), key -> new Cell()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes a rectangle
+     * @param id
+     * @return true if a rectangle with the id was removed
+     */
+    public boolean remove(int id) {
+        var rectangle = rectangles.remove(id);
+        if (rectangle == null) return false;
+        var range = cellRange(rectangle);
+        for (int cellX = range.minX; cellX <= range.maxX; cellX++) {
+            for (int cellY = range.minY; cellY <= range.maxY; cellY++) {
+                removeFromCell(cellX, cellY, id);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the rectangle stored under an id, updating only the cells that it leaves or enters
+     * @param id
+     * @param rectangle
+     * @throws IllegalArgumentException if no rectangle has the id or the rectangle is not finite
+     */
+    public void move(int id, Rectangle rectangle) {
+        var newRange = cellRange(rectangle);
+        var oldRectangle = rectangles.get(id);
+        if (oldRectangle == null)
+            throw new IllegalArgumentException("There is no rectangle with id " + id + " in the grid");
+        rectangles.put(id, rectangle);
+        var oldRange = cellRange(oldRectangle);
+        for (int cellX = oldRange.minX; cellX <= oldRange.maxX; cellX++) {
+            for (int cellY = oldRange.minY; cellY <= oldRange.maxY; cellY++) {
+                if (!newRange.covers(cellX, cellY)) removeFromCell(cellX, cellY, id);
+            }
+        }
+        for (int cellX = newRange.minX; cellX <= newRange.maxX; cellX++) {
+            for (int cellY = newRange.minY; cellY <= newRange.maxY; cellY++) {
+                if (!oldRange.covers(cellX, cellY))
+                    cells.computeIfAbsent(key(cellX, cellY), key -> new Cell()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Finds every stored rectangle that intersects, contains, is contained by or is adjacent to the probe
+     * @param probe
+     * @return collisions ordered by id, with attributes computed as (probe, stored rectangle)
+     */
+    public IndexedCollision[] findCollisions(Rectangle probe) {
+        return findCollisions(probe, null);
+    }
+
+    /**
+     * Finds every other stored rectangle that intersects, contains, is contained by or is adjacent to the
+     * rectangle stored under an id
+     * @param id
+     * @return collisions ordered by id, with attributes computed as (rectangle of id, stored rectangle)
+     * @throws IllegalArgumentException if no rectangle has the id
+     */
+    public IndexedCollision[] findCollisions(int id) {
+        var rectangle = rectangles.get(id);
+        if (rectangle == null)
+            throw new IllegalArgumentException("There is no rectangle with id " + id + " in the grid");
+        return findCollisions(rectangle, id);
+    }
+
+    /**
+     * Visits the id of every stored rectangle whose closed bounds share at least one point with the probe.
+     * Each id is visited once.
+     * @param probe
+     * @param consumer
+     */
+    public void forEachOverlapping(Rectangle probe, IntConsumer consumer) {
+        var range = cellRange(probe);
+        for (int cellX = range.minX; cellX <= range.maxX; cellX++) {
+            for (int cellY = range.minY; cellY <= range.maxY; cellY++) {
+                var cell = cells.get(key(cellX, cellY));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.ids[i];
+                    var candidate = rectangles.get(id);
+                    if (probe.overlaps(candidate) && isReferenceCell(probe, candidate, cellX, cellY))
+                        consumer.accept(id);
+                }
+            }
+        }
+    }
+
+    private IndexedCollision[] findCollisions(Rectangle probe, Integer excludedId) {
+        var collisions = new ArrayList<IndexedCollision>();
+        forEachOverlapping(probe, id -> {
+            if (excludedId != null && id == excludedId) return;
+            var attributes = collisionAttributesFinder.findAll(probe, rectangles.get(id));
+            if (attributes.isColliding()) collisions.add(new IndexedCollision(id, attributes));
+        });
+        collisions.sort(Comparator.comparingInt(IndexedCollision::index));
+        return collisions.toArray(new IndexedCollision[0]);
+    }
+
+    /**
+     * Two overlapping rectangles share several cells; the pair is only reported from the cell holding the
+     * bottom-left corner of their overlap, which both rectangles are guaranteed to cover
+     */
+    private boolean isReferenceCell(Rectangle probe, Rectangle candidate, int cellX, int cellY) {
+        return cellIndex(Math.max(probe.left(), candidate.left())) == cellX &&
+                cellIndex(Math.max(probe.bottom(), candidate.bottom())) == cellY;
+    }
+
+    private void removeFromCell(int cellX, int cellY, int id) {
+        var key = key(cellX, cellY);
+        var cell = cells.get(key);
+        if (cell == null) return;
+        cell.remove(id);
+        if (cell.size == 0) cells.remove(key);
+    }
+
+    private CellRange cellRange(Rectangle rectangle) {
+        return new CellRange(
+                cellIndex(rectangle.left()), cellIndex(rectangle.right()),
+                cellIndex(rectangle.bottom()), cellIndex(rectangle.top())
+        );
+    }
+
+    private int cellIndex(double coordinate) {
+        var index = Math.floor(coordinate / cellSize);
+        if (!(index > Integer.MIN_VALUE && index < Integer.MAX_VALUE))
+            throw new IllegalArgumentException("The coordinate " + coordinate + " is outside the grid");
+        return (int) index;
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private record CellRange(int minX, int maxX, int minY, int maxY) {
+        boolean covers(int cellX, int cellY) {
+            return cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY;
+        }
+    }
+
+    private static class Cell {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, 2 * size);
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] != id) continue;
+                ids[i] = ids[--size];
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.caleb.rectangles.io;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import static com.caleb.rectangles.io.RectangleFileFormat.*;
+
+/**
+ * Read-only, memory-mapped view of a binary rectangle file. Records are read in place from the mapping, so
+ * opening a file costs only the header validation and the pages are shared through the OS page cache.
+ * Files are mapped in chunks of up to 1 GiB because a single {@link MappedByteBuffer} is limited to 2 GiB.
+ */
+public class MappedRectangleFile implements IRectangleEdges, Closeable {
+
+    private static final int RECORDS_PER_CHUNK_SHIFT = 25;
+    private static final int RECORDS_PER_CHUNK = 1 << RECORDS_PER_CHUNK_SHIFT;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final int size;
+
+    private MappedRectangleFile(FileChannel channel, MappedByteBuffer[] chunks, int size) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Maps a binary rectangle file after validating its header
+     * @param path
+     * @return mapped file
+     * @throws RectangleFileFormatException if the header is invalid or does not match the file length
+     * @throws IOException if the file cannot be read or mapped
+     */
+    public static MappedRectangleFile open(Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            var count = readRecordCount(channel);
+            var chunkCount = (int) ((count + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+            var chunks = new MappedByteBuffer[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                long firstRecord = (long) chunk << RECORDS_PER_CHUNK_SHIFT;
+                long records = Math.min(RECORDS_PER_CHUNK, count - firstRecord);
+                chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + firstRecord * RECORD_SIZE, records * RECORD_SIZE);
+                chunks[chunk].order(BYTE_ORDER);
+            }
+            return new MappedRectangleFile(channel, chunks, (int) count);
+        }
+        catch (IOException | RuntimeException err) {
+            channel.close();
+            throw err;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double x(int i) {
+        return read(i, X_OFFSET);
+    }
+
+    public double y(int i) {
+        return read(i, Y_OFFSET);
+    }
+
+    public double width(int i) {
+        return read(i, WIDTH_OFFSET);
+    }
+
+    public double height(int i) {
+        return read(i, HEIGHT_OFFSET);
+    }
+
+    public double left(int i) {
+        return x(i);
+    }
+
+    public double right(int i) {
+        return x(i) + width(i);
+    }
+
+    public double top(int i) {
+        return y(i);
+    }
+
+    public double bottom(int i) {
+        return y(i) - height(i);
+    }
+
+    /**
+     * Materializes the rectangle of a record, enforcing the rectangle invariants
+     * @param i
+     * @return rectangle
+     */
+    public Rectangle get(int i) {
+        return new Rectangle(new Vector2(x(i), y(i)), new Size(width(i), height(i)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private double read(int i, int fieldOffset) {
+        Objects.checkIndex(i, size);
+        var chunk = chunks[i >>> RECORDS_PER_CHUNK_SHIFT];
+        return chunk.getDouble((i & (RECORDS_PER_CHUNK - 1)) * RECORD_SIZE + fieldOffset);
+    }
+
+    private static long readRecordCount(FileChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0)
+                throw new RectangleFileFormatException("The file is too short to hold a header");
+        }
+        if (header.getInt(MAGIC_OFFSET) != MAGIC)
+            throw new RectangleFileFormatException("The file is not a rectangle file");
+        if (header.getInt(VERSION_OFFSET) != VERSION)
+            throw new RectangleFileFormatException("Unsupported rectangle file version " + header.getInt(VERSION_OFFSET));
+        if (header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE)
+            throw new RectangleFileFormatException("Unsupported record size " + header.getInt(RECORD_SIZE_OFFSET));
+        var count = header.getLong(COUNT_OFFSET);
+        if (count < 0 || count > MAX_RECORD_COUNT)
+            throw new RectangleFileFormatException("Invalid record count " + count);
+        if (channel.size() < HEADER_SIZE + count * RECORD_SIZE)
+            throw new RectangleFileFormatException("The file is shorter than its " + count + " records");
+        return count;
+    }
+}
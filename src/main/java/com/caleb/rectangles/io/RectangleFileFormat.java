@@ -0,0 +1,37 @@
+package com.caleb.rectangles.io;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary rectangle file. A 32-byte header is followed by fixed 32-byte records, each holding
+ * the top-left x, top-left y, width and height of one rectangle as little-endian doubles.
+ * <pre>
+ * offset  size  field
+ * 0       4     magic "RECT"
+ * 4       4     format version
+ * 8       4     record size in bytes
+ * 12      4     reserved (zero)
+ * 16      8     record count
+ * 24      8     reserved (zero)
+ * </pre>
+ */
+final class RectangleFileFormat {
+
+    static final int MAGIC = 0x54434552;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_SIZE_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+    static final int X_OFFSET = 0;
+    static final int Y_OFFSET = 8;
+    static final int WIDTH_OFFSET = 16;
+    static final int HEIGHT_OFFSET = 24;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /** Most records a file may hold, since readers address records with an int index */
+    static final long MAX_RECORD_COUNT = Integer.MAX_VALUE;
+
+    private RectangleFileFormat() {}
+}
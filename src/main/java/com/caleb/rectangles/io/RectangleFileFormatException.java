@@ -0,0 +1,10 @@
+package com.caleb.rectangles.io;
+
+import java.io.IOException;
+
+public class RectangleFileFormatException extends IOException {
+
+    public RectangleFileFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,79 @@
+package com.caleb.rectangles.io;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.caleb.rectangles.io.RectangleFileFormat.*;
+
+/**
+ * Writes rectangles to the binary rectangle file format. Records are buffered and the header's record
+ * count is written when the writer is closed. A file holds at most {@link Integer#MAX_VALUE} records, the most
+ * a reader can open, and writing past that throws.
+ */
+public class RectangleFileWriter implements Closeable {
+
+    private static final int RECORDS_PER_WRITE = 2048;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS_PER_WRITE * RECORD_SIZE).order(BYTE_ORDER);
+    private long count;
+    private boolean closed;
+
+    public RectangleFileWriter(Path path) throws IOException {
+        channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(HEADER_SIZE);
+    }
+
+    public void write(Rectangle rectangle) throws IOException {
+        writeRecord(rectangle.topLeft().x(), rectangle.topLeft().y(),
+                rectangle.size().width(), rectangle.size().height());
+    }
+
+    public void writeAll(RectangleBuffer rectangles) throws IOException {
+        for (int i = 0; i < rectangles.size(); i++) {
+            writeRecord(rectangles.x(i), rectangles.y(i), rectangles.width(i), rectangles.height(i));
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try (channel) {
+            flush();
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER)
+                    .putInt(MAGIC_OFFSET, MAGIC)
+                    .putInt(VERSION_OFFSET, VERSION)
+                    .putInt(RECORD_SIZE_OFFSET, RECORD_SIZE)
+                    .putLong(COUNT_OFFSET, count);
+            while (header.hasRemaining()) channel.write(header, header.position());
+        }
+    }
+
+    private void writeRecord(double x, double y, double width, double height) throws IOException {
+        if (closed) throw new IOException("The writer is closed");
+        if (count == MAX_RECORD_COUNT)
+            throw new RectangleFileFormatException("A rectangle file holds at most " + MAX_RECORD_COUNT + " records");
+        if (!buffer.hasRemaining()) flush();
+        buffer.putDouble(x).putDouble(y).putDouble(width).putDouble(height);
+        count++;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+}
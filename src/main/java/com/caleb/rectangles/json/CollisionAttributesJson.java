@@ -0,0 +1,124 @@
+package com.caleb.rectangles.json;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesResponse;
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+
+import java.util.Map;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesQuery.RectangleRawData;
+
+/**
+ * Maps queries and responses to and from JSON with the same member names as
+ * {@link RectanglesCollisionAttributesQuery} and {@link RectanglesCollisionAttributesResponse}
+ */
+public final class CollisionAttributesJson {
+
+    private CollisionAttributesJson() {}
+
+    /**
+     * Reads a query from a parsed JSON object. Missing or non-numeric rectangle fields are passed on as
+     * empty strings so that the interactor reports them as field errors; missing flags take the defaults.
+     * @param json
+     * @param defaultFlags flags to use when the object does not set them
+     * @return query
+     * @throws JsonFormatException if the value is not an object
+     */
+    public static RectanglesCollisionAttributesQuery readQuery(Object json, QueryFlags defaultFlags) {
+        if (!(json instanceof Map<?, ?> object)) throw new JsonFormatException("Expected a JSON object");
+        return new RectanglesCollisionAttributesQuery(
+                readRectangleRawData(object.get("rectangle1Data")),
+                readRectangleRawData(object.get("rectangle2Data")),
+                readFlag(object, "queryIntersections", defaultFlags.intersections()),
+                readFlag(object, "queryContainment", defaultFlags.containment()),
+                readFlag(object, "queryAdjacency", defaultFlags.adjacency())
+        );
+    }
+
+    /**
+     * Writes the members of a response into an object that is already open
+     * @param writer
+     * @param response
+     */
+    public static void writeResponseMembers(JsonWriter writer, RectanglesCollisionAttributesResponse response) {
+        writer.name("success").value(response.isSuccess());
+        if (!response.isSuccess()) {
+            writeErrors(writer, response.errors());
+            return;
+        }
+        response.intersections().ifPresent(intersections -> {
+            writer.name("intersections").beginArray();
+            for (Vector2 point : intersections) {
+                writer.beginObject().name("x").value(point.x()).name("y").value(point.y()).endObject();
+            }
+            writer.endArray();
+        });
+        response.containmentInfo().ifPresent(info -> writer.name("containmentInfo").beginObject()
+                .name("rect1ContainsRect2").value(info.rect1ContainsRect2())
+                .name("rect2ContainsRect1").value(info.rect2ContainsRect1())
+                .endObject());
+        response.adjacencyList().ifPresent(adjacencyList -> {
+            writer.name("adjacencyList").beginArray();
+            for (Adjacency adjacency : adjacencyList) {
+                writer.beginObject().name("type").value(adjacency.type().toString()).name("segment");
+                writeSegment(writer, adjacency.segment());
+                writer.endObject();
+            }
+            writer.endArray();
+        });
+    }
+
+    /**
+     * Writes an errors member mapping each field to its messages
+     * @param writer
+     * @param errors
+     */
+    public static void writeErrors(JsonWriter writer, Map<String, String[]> errors) {
+        writer.name("errors").beginObject();
+        for (Map.Entry<String, String[]> entry : errors.entrySet()) {
+            writer.name(entry.getKey()).beginArray();
+            for (String message : entry.getValue()) writer.value(message);
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
+    private static void writeSegment(JsonWriter writer, LineSegment segment) {
+        writer.beginObject()
+                .name("axis").value(segment.axis().toString())
+                .name("constant").value(segment.constant())
+                .name("bounds").beginObject()
+                .name("lower").value(segment.bounds().lower())
+                .name("upper").value(segment.bounds().upper())
+                .endObject()
+                .endObject();
+    }
+
+    private static RectangleRawData readRectangleRawData(Object json) {
+        if (!(json instanceof Map<?, ?> object)) return new RectangleRawData("", "", "", "");
+        return new RectangleRawData(
+                readField(object.get("x")), readField(object.get("y")),
+                readField(object.get("w")), readField(object.get("h"))
+        );
+    }
+
+    private static String readField(Object value) {
+        if (value instanceof JsonNumber number) return number.literal();
+        if (value instanceof String text) return text;
+        return "";
+    }
+
+    private static boolean readFlag(Map<?, ?> object, String name, boolean defaultValue) {
+        return object.get(name) instanceof Boolean flag ? flag : defaultValue;
+    }
+
+    /**
+     * The query flags for intersections, containment and adjacency
+     * @param intersections
+     * @param containment
+     * @param adjacency
+     */
+    public record QueryFlags(boolean intersections, boolean containment, boolean adjacency) {}
+}
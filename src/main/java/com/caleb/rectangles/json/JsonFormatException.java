@@ -0,0 +1,8 @@
+package com.caleb.rectangles.json;
+
+public class JsonFormatException extends RuntimeException {
+
+    public JsonFormatException(String message) {
+        super(message);
+    }
+}
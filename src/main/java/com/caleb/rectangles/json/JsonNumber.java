@@ -0,0 +1,7 @@
+package com.caleb.rectangles.json;
+
+/**
+ * A JSON number kept as its literal text, so it reaches the rectangle parser exactly as it was written
+ * @param literal
+ */
+public record JsonNumber(String literal) {}
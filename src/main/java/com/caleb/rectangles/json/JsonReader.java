@@ -0,0 +1,181 @@
+package com.caleb.rectangles.json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal recursive descent JSON parser. Objects become {@link Map}s, arrays become {@link List}s,
+ * numbers become {@link JsonNumber}s and the remaining values become strings, booleans or null.
+ */
+public final class JsonReader {
+
+    /** Deepest nesting of arrays and objects accepted, which keeps the recursion well within the thread stack */
+    public static final int MAX_DEPTH = 512;
+
+    private final CharSequence text;
+    private int position;
+    private int depth;
+
+    private JsonReader(CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Parses a single JSON value
+     * @param text
+     * @return the parsed value
+     * @throws JsonFormatException if the text is not a single valid JSON value
+     */
+    public static Object parse(CharSequence text) {
+        var reader = new JsonReader(text);
+        var value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.position != text.length()) throw reader.error("Unexpected trailing characters");
+        return value;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (position >= text.length()) throw error("Unexpected end of input");
+        char c = text.charAt(position);
+        return switch (c) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> readLiteral("true", Boolean.TRUE);
+            case 'f' -> readLiteral("false", Boolean.FALSE);
+            case 'n' -> readLiteral("null", null);
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) yield readNumber();
+                throw error("Unexpected character '" + c + "'");
+            }
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        var object = new LinkedHashMap<String, Object>();
+        enter();
+        skipWhitespace();
+        if (consume('}')) return leave(object);
+        do {
+            skipWhitespace();
+            if (position >= text.length() || text.charAt(position) != '"') throw error("Expected a member name");
+            var name = readString();
+            skipWhitespace();
+            if (!consume(':')) throw error("Expected ':'");
+            object.put(name, readValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume('}')) throw error("Expected ',' or '}'");
+        return leave(object);
+    }
+
+    private List<Object> readArray() {
+        var array = new ArrayList<Object>();
+        enter();
+        skipWhitespace();
+        if (consume(']')) return leave(array);
+        do {
+            array.add(readValue());
+            skipWhitespace();
+        } while (consume(','));
+        if (!consume(']')) throw error("Expected ',' or ']'");
+        return leave(array);
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) throw error("Nesting is deeper than " + MAX_DEPTH + " levels");
+        position++;
+    }
+
+    private <T> T leave(T value) {
+        depth--;
+        return value;
+    }
+
+    private String readString() {
+        position++;
+        var builder = new StringBuilder();
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') return builder.toString();
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (position >= text.length()) break;
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append(escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> builder.append(readUnicodeEscape());
+                default -> throw error("Invalid escape '\\" + escaped + "'");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char readUnicodeEscape() {
+        if (position + 4 > text.length()) throw error("Invalid unicode escape");
+        try {
+            var code = Integer.parseInt(text.subSequence(position, position + 4).toString(), 16);
+            position += 4;
+            return (char) code;
+        }
+        catch (NumberFormatException err) {
+            throw error("Invalid unicode escape");
+        }
+    }
+
+    private JsonNumber readNumber() {
+        int start = position;
+        consume('-');
+        if (!consumeDigits()) throw error("Expected a digit");
+        if (consume('.') && !consumeDigits()) throw error("Expected a digit");
+        if (consume('e') || consume('E')) {
+            if (!consume('+')) consume('-');
+            if (!consumeDigits()) throw error("Expected a digit");
+        }
+        return new JsonNumber(text.subSequence(start, position).toString());
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (position + literal.length() > text.length() ||
+                !text.subSequence(position, position + literal.length()).toString().equals(literal))
+            throw error("Unexpected character '" + text.charAt(position) + "'");
+        position += literal.length();
+        return value;
+    }
+
+    private boolean consumeDigits() {
+        int start = position;
+        while (position < text.length() && text.charAt(position) >= '0' && text.charAt(position) <= '9') position++;
+        return position > start;
+    }
+
+    private boolean consume(char c) {
+        if (position < text.length() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length()) {
+            char c = text.charAt(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return;
+            position++;
+        }
+    }
+
+    private JsonFormatException error(String message) {
+        return new JsonFormatException(message + " at position " + position);
+    }
+}
@@ -0,0 +1,123 @@
+package com.caleb.rectangles.json;
+
+/**
+ * Minimal streaming JSON writer that appends compact JSON to a reusable {@link StringBuilder}
+ * and inserts commas between members and elements.
+ */
+public final class JsonWriter {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final StringBuilder out;
+    private final boolean[] hasElements = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean afterName;
+
+    public JsonWriter(StringBuilder out) {
+        this.out = out;
+    }
+
+    public JsonWriter beginObject() {
+        return open('{');
+    }
+
+    public JsonWriter endObject() {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() {
+        return open('[');
+    }
+
+    public JsonWriter endArray() {
+        return close(']');
+    }
+
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        out.append(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) return nullValue();
+        separate();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes a number, or a string for NaN and the infinities since JSON has no literal for them
+     * @param value
+     * @return this writer
+     */
+    public JsonWriter value(double value) {
+        if (!Double.isFinite(value)) return value(Double.toString(value));
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        separate();
+        out.append("null");
+        return this;
+    }
+
+    private JsonWriter open(char bracket) {
+        separate();
+        out.append(bracket);
+        if (++depth >= MAX_DEPTH) throw new IllegalStateException("JSON nesting is too deep");
+        hasElements[depth] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) {
+        if (depth == 0) throw new IllegalStateException("There is no open object or array to close");
+        depth--;
+        out.append(bracket);
+        return this;
+    }
+
+    private void separate() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (hasElements[depth]) out.append(',');
+        hasElements[depth] = true;
+    }
+
+    private void writeString(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,57 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.IRectangleEdges;
+
+/**
+ * Edges of many rectangles stored as one array per edge, the layout batch kernels scan. The arrays are
+ * shared, not copied, and must not be modified while a kernel reads them.
+ * @param left
+ * @param right
+ * @param top
+ * @param bottom
+ * @param size number of rectangles, which may be less than the array lengths
+ */
+public record EdgeColumns(double[] left, double[] right, double[] top, double[] bottom, int size)
+        implements IRectangleEdges {
+
+    public EdgeColumns {
+        if (size < 0 || size > left.length || size > right.length || size > top.length || size > bottom.length)
+            throw new IllegalArgumentException("size must be between zero and the length of every column");
+    }
+
+    /**
+     * Copies the edges of rectangles into columns
+     * @param edges
+     * @return columns
+     */
+    public static EdgeColumns of(IRectangleEdges edges) {
+        int size = edges.size();
+        var left = new double[size];
+        var right = new double[size];
+        var top = new double[size];
+        var bottom = new double[size];
+        for (int i = 0; i < size; i++) {
+            left[i] = edges.left(i);
+            right[i] = edges.right(i);
+            top[i] = edges.top(i);
+            bottom[i] = edges.bottom(i);
+        }
+        return new EdgeColumns(left, right, top, bottom, size);
+    }
+
+    public double left(int i) {
+        return left[i];
+    }
+
+    public double right(int i) {
+        return right[i];
+    }
+
+    public double top(int i) {
+        return top[i];
+    }
+
+    public double bottom(int i) {
+        return bottom[i];
+    }
+}
@@ -0,0 +1,14 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+public interface IRelationKernel {
+
+    /**
+     * Tests a probe rectangle against every rectangle of the columns, overwriting the masks
+     * @param columns
+     * @param probe
+     * @param masks receives one bit per rectangle, must have capacity for every rectangle
+     */
+    void relate(EdgeColumns columns, Rectangle probe, RelationMasks masks);
+}
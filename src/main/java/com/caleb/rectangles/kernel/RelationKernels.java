@@ -0,0 +1,29 @@
+package com.caleb.rectangles.kernel;
+
+/**
+ * Picks the fastest relation kernel available at runtime
+ */
+public final class RelationKernels {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_KERNEL = "com.caleb.rectangles.kernel.VectorRelationKernel";
+
+    private RelationKernels() {}
+
+    /**
+     * Returns the Vector API kernel when the rectangles-vector artifact is on the class path and the JVM was
+     * started with {@code --add-modules jdk.incubator.vector}, and the scalar kernel otherwise
+     * @return kernel
+     */
+    public static IRelationKernel fastest() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (IRelationKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            }
+            catch (ReflectiveOperationException | LinkageError err) {
+                // the vector kernel is not on the class path
+            }
+        }
+        return new ScalarRelationKernel();
+    }
+}
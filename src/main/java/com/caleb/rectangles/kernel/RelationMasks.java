@@ -0,0 +1,80 @@
+package com.caleb.rectangles.kernel;
+
+import java.util.Arrays;
+
+/**
+ * Bitmasks of how a probe rectangle relates to each stored rectangle, one bit per rectangle with rectangle i
+ * at bit {@code i % 64} of word {@code i / 64}
+ * <ul>
+ *     <li>contains: the probe contains the rectangle (inclusive), as {@link com.caleb.rectangles.domain.Rectangle#contains}</li>
+ *     <li>overlaps: the interiors of the probe and the rectangle share area</li>
+ *     <li>touches: the probe and the rectangle share boundary points but no area</li>
+ * </ul>
+ */
+public final class RelationMasks {
+
+    private final long[] contains;
+    private final long[] overlaps;
+    private final long[] touches;
+
+    /**
+     * @param capacity largest number of rectangles the masks can describe
+     */
+    public RelationMasks(int capacity) {
+        int words = (capacity + Long.SIZE - 1) / Long.SIZE;
+        contains = new long[words];
+        overlaps = new long[words];
+        touches = new long[words];
+    }
+
+    public int capacity() {
+        return contains.length * Long.SIZE;
+    }
+
+    public long[] contains() {
+        return contains;
+    }
+
+    public long[] overlaps() {
+        return overlaps;
+    }
+
+    public long[] touches() {
+        return touches;
+    }
+
+    public boolean contains(int i) {
+        return isSet(contains, i);
+    }
+
+    public boolean overlaps(int i) {
+        return isSet(overlaps, i);
+    }
+
+    public boolean touches(int i) {
+        return isSet(touches, i);
+    }
+
+    /**
+     * Stores the masks of 64 consecutive rectangles
+     * @param word index of the word, covering rectangles 64 * word to 64 * word + 63
+     * @param containsBits
+     * @param overlapsBits
+     * @param touchesBits
+     */
+    public void set(int word, long containsBits, long overlapsBits, long touchesBits) {
+        contains[word] = containsBits;
+        overlaps[word] = overlapsBits;
+        touches[word] = touchesBits;
+    }
+
+    public void clear() {
+        Arrays.fill(contains, 0L);
+        Arrays.fill(overlaps, 0L);
+        Arrays.fill(touches, 0L);
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+}
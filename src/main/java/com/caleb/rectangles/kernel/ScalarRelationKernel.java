@@ -0,0 +1,52 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.Rectangle;
+
+/**
+ * Reference kernel testing one rectangle at a time. Vectorized kernels must match it bit for bit.
+ */
+public class ScalarRelationKernel implements IRelationKernel {
+
+    public void relate(EdgeColumns columns, Rectangle probe, RelationMasks masks) {
+        ensureCapacity(columns, masks);
+        masks.clear();
+        int size = columns.size();
+        for (int word = 0; word * Long.SIZE < size; word++) {
+            int from = word * Long.SIZE;
+            relateWord(columns, probe.left(), probe.right(), probe.top(), probe.bottom(),
+                    word, from, Math.min(from + Long.SIZE, size), masks, 0L, 0L, 0L);
+        }
+    }
+
+    /**
+     * Tests rectangles [from, to) of one 64-rectangle word and stores the word, merged with bits already
+     * found for the rectangles of the word before from
+     */
+    static void relateWord(
+            EdgeColumns columns, double probeLeft, double probeRight, double probeTop, double probeBottom,
+            int word, int from, int to, RelationMasks masks,
+            long containsBits, long overlapsBits, long touchesBits
+    ) {
+        var left = columns.left();
+        var right = columns.right();
+        var top = columns.top();
+        var bottom = columns.bottom();
+        for (int i = from; i < to; i++) {
+            long bit = 1L << i;
+            if (Rectangle.contains(probeLeft, probeRight, probeTop, probeBottom, left[i], right[i], top[i], bottom[i]))
+                containsBits |= bit;
+            boolean strictlyOverlaps = left[i] < probeRight && probeLeft < right[i] &&
+                    bottom[i] < probeTop && probeBottom < top[i];
+            if (strictlyOverlaps)
+                overlapsBits |= bit;
+            else if (Rectangle.overlaps(probeLeft, probeRight, probeTop, probeBottom, left[i], right[i], top[i], bottom[i]))
+                touchesBits |= bit;
+        }
+        masks.set(word, containsBits, overlapsBits, touchesBits);
+    }
+
+    static void ensureCapacity(EdgeColumns columns, RelationMasks masks) {
+        if (masks.capacity() < columns.size())
+            throw new IllegalArgumentException("The masks cannot hold " + columns.size() + " rectangles");
+    }
+}
@@ -0,0 +1,19 @@
+package com.caleb.rectangles.kinetic;
+
+import com.caleb.rectangles.domain.operations.CollisionAttributes;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Change in contact between two rectangles of a {@link KineticBroadPhase}.
+ * The first handle is always less than the second.
+ * @param type
+ * @param first
+ * @param second
+ * @param attributes collision attributes computed as (first, second) when contact begins, null when it ends
+ */
+public record ContactEvent(Types type, int first, int second, @Nullable CollisionAttributes attributes) {
+    public enum Types {
+        Begin,
+        End
+    }
+}
@@ -0,0 +1,298 @@
+package com.caleb.rectangles.kinetic;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.operations.ICollisionAttributesFinder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Broad phase for rectangles that move between frames. The endpoints of every rectangle on each axis are kept
+ * in a sorted list across frames, and each {@link #step()} restores the order with insertion sort. Motion
+ * between frames is usually small, so few endpoints move and each moves a short way. Every swap of a lower
+ * endpoint with an upper endpoint is the only moment a pair can start or stop overlapping on that axis, so
+ * the set of pairs in contact is updated from the swaps alone. A frame then costs O(n + s) for s swaps, plus
+ * the degree of the two rectangles for each contact that begins or ends, rather than a search over all pairs.
+ * <p>
+ * Contacts are kept as a list of neighbors per rectangle, so removing a rectangle only touches its own contacts.
+ * Its endpoints are marked and dropped by the next step in the same pass for every removal.
+ * <p>
+ * Two rectangles are in contact when their closed bounds overlap, so rectangles that only touch are in
+ * contact. Contact begins with the collision attributes from the collision attributes finder.
+ */
+public class KineticBroadPhase {
+
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private final ICollisionAttributesFinder collisionAttributesFinder;
+    private final ArrayList<Rectangle> rectangles = new ArrayList<>();
+    private final double[][] lowers = { new double[16], new double[16] };
+    private final double[][] uppers = { new double[16], new double[16] };
+    private final int[][] endpoints = { new int[32], new int[32] };
+    private int endpointCount;
+    private int removedEndpointCount;
+    private int[][] neighbors = new int[16][];
+    private int[] degrees = new int[16];
+    private int contactCount;
+    private final ArrayList<ContactEvent> endedContacts = new ArrayList<>();
+    private long[] begunContacts = new long[16];
+    private int begunContactCount;
+
+    public KineticBroadPhase(ICollisionAttributesFinder collisionAttributesFinder) {
+        this.collisionAttributesFinder = collisionAttributesFinder;
+    }
+
+    /**
+     * @return number of handles given out, including removed rectangles
+     */
+    public int size() {
+        return rectangles.size();
+    }
+
+    /**
+     * @param handle
+     * @return current rectangle of the handle, or null if it was removed
+     */
+    public @Nullable Rectangle rectangle(int handle) {
+        return rectangles.get(handle);
+    }
+
+    /**
+     * Adds a rectangle, whose contacts are reported by the next step
+     * @param rectangle
+     * @return handle of the rectangle
+     */
+    public int add(Rectangle rectangle) {
+        int handle = rectangles.size();
+        rectangles.add(rectangle);
+        if (handle == lowers[X].length) {
+            for (int axis = X; axis <= Y; axis++) {
+                lowers[axis] = Arrays.copyOf(lowers[axis], 2 * handle);
+                uppers[axis] = Arrays.copyOf(uppers[axis], 2 * handle);
+            }
+            neighbors = Arrays.copyOf(neighbors, 2 * handle);
+            degrees = Arrays.copyOf(degrees, 2 * handle);
+        }
+        if (endpointCount + 2 > endpoints[X].length) {
+            for (int axis = X; axis <= Y; axis++) endpoints[axis] = Arrays.copyOf(endpoints[axis], 2 * endpointCount);
+        }
+        setBounds(handle, rectangle);
+        neighbors[handle] = NO_NEIGHBORS;
+        // Endpoints start past every other endpoint, which reads as no overlap until the step sorts them in
+        for (int axis = X; axis <= Y; axis++) {
+            endpoints[axis][endpointCount] = lowerEndpoint(handle);
+            endpoints[axis][endpointCount + 1] = upperEndpoint(handle);
+        }
+        endpointCount += 2;
+        return handle;
+    }
+
+    /**
+     * Moves a rectangle, whose contacts are updated by the next step
+     * @param handle
+     * @param rectangle new position and size
+     */
+    public void move(int handle, Rectangle rectangle) {
+        if (rectangles.get(handle) == null) throw new IllegalArgumentException("Rectangle " + handle + " was removed");
+        rectangles.set(handle, rectangle);
+        setBounds(handle, rectangle);
+    }
+
+    /**
+     * Removes a rectangle. The end of its contacts is reported by the next step.
+     * @param handle
+     */
+    public void remove(int handle) {
+        if (rectangles.get(handle) == null) throw new IllegalArgumentException("Rectangle " + handle + " was removed");
+        rectangles.set(handle, null);
+        removedEndpointCount += 2;
+        for (int i = 0; i < degrees[handle]; i++) {
+            int neighbor = neighbors[handle][i];
+            removeNeighborAt(neighbor, indexOfNeighbor(neighbor, handle));
+            endedContacts.add(new ContactEvent(
+                    ContactEvent.Types.End, Math.min(handle, neighbor), Math.max(handle, neighbor), null
+            ));
+        }
+        contactCount -= degrees[handle];
+        degrees[handle] = 0;
+        neighbors[handle] = NO_NEIGHBORS;
+    }
+
+    /**
+     * @param handle1
+     * @param handle2
+     * @return true if the rectangles were in contact after the last step
+     */
+    public boolean isInContact(int handle1, int handle2) {
+        if (handle1 == handle2) return false;
+        int fewer = degrees[handle1] <= degrees[handle2] ? handle1 : handle2;
+        return indexOfNeighbor(fewer, fewer == handle1 ? handle2 : handle1) >= 0;
+    }
+
+    /**
+     * @return number of pairs in contact after the last step
+     */
+    public int contactCount() {
+        return contactCount;
+    }
+
+    /**
+     * Brings the broad phase up to date with every add, move and remove since the last step
+     * @return contacts that ended, ordered by pair, followed by contacts that began, ordered by pair
+     */
+    public ContactEvent[] step() {
+        dropRemovedEndpoints();
+        sort(X);
+        sort(Y);
+        var events = new ArrayList<ContactEvent>(endedContacts.size() + begunContactCount);
+        endedContacts.sort(KineticBroadPhase::compareEvents);
+        events.addAll(endedContacts);
+        Arrays.sort(begunContacts, 0, begunContactCount);
+        for (int i = 0; i < begunContactCount; i++) {
+            int first = first(begunContacts[i]);
+            int second = second(begunContacts[i]);
+            var attributes = collisionAttributesFinder.findAll(rectangles.get(first), rectangles.get(second));
+            events.add(new ContactEvent(ContactEvent.Types.Begin, first, second, attributes));
+        }
+        endedContacts.clear();
+        begunContactCount = 0;
+        return events.toArray(new ContactEvent[0]);
+    }
+
+    private void dropRemovedEndpoints() {
+        if (removedEndpointCount == 0) return;
+        for (int axis = X; axis <= Y; axis++) {
+            var list = endpoints[axis];
+            int kept = 0;
+            for (int i = 0; i < endpointCount; i++) {
+                if (rectangles.get(handleOf(list[i])) != null) list[kept++] = list[i];
+            }
+        }
+        endpointCount -= removedEndpointCount;
+        removedEndpointCount = 0;
+    }
+
+    /**
+     * Insertion sort of the endpoints on one axis. A lower endpoint sorts before an upper endpoint at the same
+     * value, so the order matches closed overlap.
+     */
+    private void sort(int axis) {
+        var list = endpoints[axis];
+        for (int i = 1; i < endpointCount; i++) {
+            int moving = list[i];
+            double value = valueOf(axis, moving);
+            boolean movingIsUpper = isUpper(moving);
+            int j = i - 1;
+            while (j >= 0) {
+                int other = list[j];
+                double otherValue = valueOf(axis, other);
+                boolean otherIsUpper = isUpper(other);
+                boolean movesPast = value < otherValue || value == otherValue && !movingIsUpper && otherIsUpper;
+                if (!movesPast) break;
+                if (!movingIsUpper && otherIsUpper) beginIfOverlapping(handleOf(moving), handleOf(other));
+                else if (movingIsUpper && !otherIsUpper) end(handleOf(moving), handleOf(other));
+                list[j + 1] = other;
+                j--;
+            }
+            list[j + 1] = moving;
+        }
+    }
+
+    /**
+     * Both axes are checked against the new bounds, so a contact only begins when the pair still overlaps once
+     * the step is over. A pair that begins contact in a step therefore cannot end it in the same step.
+     */
+    private void beginIfOverlapping(int handle1, int handle2) {
+        if (handle1 == handle2) return;
+        boolean overlaps = lowers[X][handle1] <= uppers[X][handle2] && lowers[X][handle2] <= uppers[X][handle1] &&
+                lowers[Y][handle1] <= uppers[Y][handle2] && lowers[Y][handle2] <= uppers[Y][handle1];
+        if (!overlaps || isInContact(handle1, handle2)) return;
+        addNeighbor(handle1, handle2);
+        addNeighbor(handle2, handle1);
+        contactCount++;
+        if (begunContactCount == begunContacts.length)
+            begunContacts = Arrays.copyOf(begunContacts, 2 * begunContactCount);
+        begunContacts[begunContactCount++] = pair(handle1, handle2);
+    }
+
+    private void end(int handle1, int handle2) {
+        if (!removeContact(handle1, handle2)) return;
+        endedContacts.add(new ContactEvent(
+                ContactEvent.Types.End, Math.min(handle1, handle2), Math.max(handle1, handle2), null
+        ));
+    }
+
+    private boolean removeContact(int handle1, int handle2) {
+        int index = indexOfNeighbor(handle1, handle2);
+        if (index < 0) return false;
+        removeNeighborAt(handle1, index);
+        removeNeighborAt(handle2, indexOfNeighbor(handle2, handle1));
+        contactCount--;
+        return true;
+    }
+
+    private int indexOfNeighbor(int handle, int neighbor) {
+        var list = neighbors[handle];
+        for (int i = 0; i < degrees[handle]; i++) {
+            if (list[i] == neighbor) return i;
+        }
+        return -1;
+    }
+
+    private void addNeighbor(int handle, int neighbor) {
+        if (degrees[handle] == neighbors[handle].length)
+            neighbors[handle] = Arrays.copyOf(neighbors[handle], Math.max(4, 2 * degrees[handle]));
+        neighbors[handle][degrees[handle]++] = neighbor;
+    }
+
+    private void removeNeighborAt(int handle, int index) {
+        neighbors[handle][index] = neighbors[handle][--degrees[handle]];
+    }
+
+    private void setBounds(int handle, Rectangle rectangle) {
+        lowers[X][handle] = rectangle.left();
+        uppers[X][handle] = rectangle.right();
+        lowers[Y][handle] = rectangle.bottom();
+        uppers[Y][handle] = rectangle.top();
+    }
+
+    private double valueOf(int axis, int endpoint) {
+        int handle = handleOf(endpoint);
+        return isUpper(endpoint) ? uppers[axis][handle] : lowers[axis][handle];
+    }
+
+    private static int lowerEndpoint(int handle) {
+        return handle << 1;
+    }
+
+    private static int upperEndpoint(int handle) {
+        return handle << 1 | 1;
+    }
+
+    private static int handleOf(int endpoint) {
+        return endpoint >>> 1;
+    }
+
+    private static boolean isUpper(int endpoint) {
+        return (endpoint & 1) != 0;
+    }
+
+    private static long pair(int handle1, int handle2) {
+        return ((long) Math.min(handle1, handle2) << 32) | Math.max(handle1, handle2);
+    }
+
+    private static int first(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int second(long pair) {
+        return (int) pair;
+    }
+
+    private static int compareEvents(ContactEvent event1, ContactEvent event2) {
+        return Long.compare(pair(event1.first(), event1.second()), pair(event2.first(), event2.second()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.caleb.rectangles.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link InteractorMetrics}. Latencies are keyed by stage name.
+ */
+public interface IInteractorMetricsMXBean {
+
+    long getQueries();
+
+    long getFailedQueries();
+
+    Map<String, Long> getErrorsByKey();
+
+    Map<String, Long> getFlagCombinations();
+
+    Map<String, Double> getMeanNanos();
+
+    Map<String, Long> getP50Nanos();
+
+    Map<String, Long> getP99Nanos();
+
+    Map<String, Long> getP999Nanos();
+
+    Map<String, Long> getMaxNanos();
+
+    void reset();
+}
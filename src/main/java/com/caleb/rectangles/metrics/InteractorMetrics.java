@@ -0,0 +1,187 @@
+package com.caleb.rectangles.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency of each stage of the collision attributes interactor, along with counts of queries, of failed queries
+ * and their error keys, and of each combination of query flags. All recording is lock-free and safe to call from
+ * any number of threads. An interactor without metrics does not read the clock at all.
+ */
+public class InteractorMetrics {
+
+    public enum Stage {
+        /** Parsing the raw rectangle fields */
+        PARSE,
+        INTERSECTIONS,
+        CONTAINMENT,
+        ADJACENCY,
+        /** Every requested attribute found in one pass, used when several flags are set */
+        FUSED,
+        /** The whole query, including cache lookups */
+        TOTAL
+    }
+
+    public static final String DEFAULT_OBJECT_NAME = "com.caleb.rectangles:type=InteractorMetrics";
+
+    private final EnumMap<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+    private final LongAdder[] flagCombinations = new LongAdder[8];
+    private final LongAdder failedQueries = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> errorsByKey = new ConcurrentHashMap<>();
+
+    public InteractorMetrics() {
+        for (var stage : Stage.values())
+            stages.put(stage, new LatencyHistogram());
+        for (int i = 0; i < flagCombinations.length; i++)
+            flagCombinations[i] = new LongAdder();
+    }
+
+    /**
+     * Records the latency of one stage of a query
+     * @param stage
+     * @param nanos
+     */
+    public void record(Stage stage, long nanos) {
+        stages.get(stage).record(nanos);
+    }
+
+    /**
+     * Records a finished query: its total latency, its flag combination and, if it failed, its error keys
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @param errors errors of the response, empty if it succeeded
+     * @param nanos total latency of the query
+     */
+    public void recordQuery(
+            boolean queryIntersections, boolean queryContainment, boolean queryAdjacency,
+            Map<String, String[]> errors, long nanos
+    ) {
+        stages.get(Stage.TOTAL).record(nanos);
+        flagCombinations[flagCombination(queryIntersections, queryContainment, queryAdjacency)].increment();
+        if (errors.isEmpty()) return;
+        failedQueries.increment();
+        for (var key : errors.keySet())
+            errorsByKey.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    public InteractorMetricsSnapshot snapshot() {
+        var stageSnapshots = new EnumMap<Stage, LatencySnapshot>(Stage.class);
+        for (var entry : stages.entrySet())
+            stageSnapshots.put(entry.getKey(), entry.getValue().snapshot());
+        var flagCounts = new long[flagCombinations.length];
+        for (int i = 0; i < flagCounts.length; i++)
+            flagCounts[i] = flagCombinations[i].sum();
+        var errorCounts = new TreeMap<String, Long>();
+        for (var entry : errorsByKey.entrySet())
+            errorCounts.put(entry.getKey(), entry.getValue().sum());
+        return new InteractorMetricsSnapshot(stageSnapshots, flagCounts, failedQueries.sum(), errorCounts);
+    }
+
+    public void reset() {
+        for (var histogram : stages.values())
+            histogram.reset();
+        for (var counter : flagCombinations)
+            counter.reset();
+        failedQueries.reset();
+        errorsByKey.clear();
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server so that they can be read over JMX
+     * @param objectName
+     * @throws JMException if the name is malformed or already registered
+     */
+    public void registerMBean(String objectName) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(this), new ObjectName(objectName));
+    }
+
+    /**
+     * @param queryIntersections
+     * @param queryContainment
+     * @param queryAdjacency
+     * @return index of the flag combination, with intersections as bit 0, containment as bit 1 and adjacency as bit 2
+     */
+    public static int flagCombination(boolean queryIntersections, boolean queryContainment, boolean queryAdjacency) {
+        return (queryIntersections ? 1 : 0) | (queryContainment ? 2 : 0) | (queryAdjacency ? 4 : 0);
+    }
+
+    /**
+     * @param flagCombination
+     * @return flags of the combination joined with '+', such as "intersections+adjacency", or "none"
+     */
+    public static String flagCombinationName(int flagCombination) {
+        if (flagCombination == 0) return "none";
+        var name = new StringBuilder();
+        String[] flags = { "intersections", "containment", "adjacency" };
+        for (int i = 0; i < flags.length; i++) {
+            if ((flagCombination & (1 << i)) == 0) continue;
+            if (!name.isEmpty()) name.append('+');
+            name.append(flags[i]);
+        }
+        return name.toString();
+    }
+
+    private record MXBean(InteractorMetrics metrics) implements IInteractorMetricsMXBean {
+
+        public long getQueries() {
+            return metrics.stages.get(Stage.TOTAL).snapshot().count();
+        }
+
+        public long getFailedQueries() {
+            return metrics.failedQueries.sum();
+        }
+
+        public Map<String, Long> getErrorsByKey() {
+            return metrics.snapshot().errorsByKey();
+        }
+
+        public Map<String, Long> getFlagCombinations() {
+            var counts = new LinkedHashMap<String, Long>();
+            for (int i = 0; i < metrics.flagCombinations.length; i++)
+                counts.put(flagCombinationName(i), metrics.flagCombinations[i].sum());
+            return counts;
+        }
+
+        public Map<String, Double> getMeanNanos() {
+            var means = new LinkedHashMap<String, Double>();
+            for (var entry : metrics.snapshot().stages().entrySet())
+                means.put(entry.getKey().name(), entry.getValue().meanNanos());
+            return means;
+        }
+
+        public Map<String, Long> getP50Nanos() {
+            return percentileNanos(50.0);
+        }
+
+        public Map<String, Long> getP99Nanos() {
+            return percentileNanos(99.0);
+        }
+
+        public Map<String, Long> getP999Nanos() {
+            return percentileNanos(99.9);
+        }
+
+        public Map<String, Long> getMaxNanos() {
+            return percentileNanos(100.0);
+        }
+
+        public void reset() {
+            metrics.reset();
+        }
+
+        private Map<String, Long> percentileNanos(double percentile) {
+            var values = new LinkedHashMap<String, Long>();
+            for (var entry : metrics.snapshot().stages().entrySet())
+                values.put(entry.getKey().name(), entry.getValue().percentileNanos(percentile));
+            return values;
+        }
+    }
+}
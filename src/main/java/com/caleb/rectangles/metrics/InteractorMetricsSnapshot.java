@@ -0,0 +1,31 @@
+package com.caleb.rectangles.metrics;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of {@link InteractorMetrics}
+ * @param stages latency of each stage
+ * @param flagCombinations number of queries with each flag combination, indexed by
+ *                         {@link InteractorMetrics#flagCombination}
+ * @param failedQueries number of queries answered with errors
+ * @param errorsByKey number of failed queries with each error key
+ */
+public record InteractorMetricsSnapshot(
+        Map<InteractorMetrics.Stage, LatencySnapshot> stages,
+        long[] flagCombinations,
+        long failedQueries,
+        Map<String, Long> errorsByKey
+) {
+
+    public long queries() {
+        return stages.get(InteractorMetrics.Stage.TOTAL).count();
+    }
+
+    public LatencySnapshot stage(InteractorMetrics.Stage stage) {
+        return stages.get(stage);
+    }
+
+    public long flagCombination(boolean queryIntersections, boolean queryContainment, boolean queryAdjacency) {
+        return flagCombinations[InteractorMetrics.flagCombination(queryIntersections, queryContainment, queryAdjacency)];
+    }
+}
@@ -0,0 +1,103 @@
+package com.caleb.rectangles.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent latency histogram with log-linear buckets in the style of HdrHistogram: every power of two is split
+ * into 16 buckets, so a recorded value is known to within 1/16 of itself from 16 ns up to {@link Long#MAX_VALUE}.
+ * <p>
+ * Recording is lock-free and allocation-free. Threads record into one of several stripes chosen by thread id, so
+ * threads rarely contend on the same counters, and the stripes are only summed when a snapshot is taken. Stripes are
+ * used instead of thread-local histograms because request handlers run on virtual threads, and one histogram per
+ * virtual thread would grow without bound.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static final int TOTAL = BUCKET_COUNT;
+    private static final int MAX = BUCKET_COUNT + 1;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency expected number of threads recording at the same time
+     */
+    public LatencyHistogram(int concurrency) {
+        if (concurrency <= 0) throw new IllegalArgumentException("concurrency must be positive");
+        int stripeCount = Integer.highestOneBit(Math.min(concurrency, 1 << 10) * 2 - 1);
+        stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT + 2);
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records one latency, treating negative values as zero
+     * @param nanos
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        var stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        stripe.getAndIncrement(bucketOf(value));
+        stripe.getAndAdd(TOTAL, value);
+        long max = stripe.get(MAX);
+        while (value > max && !stripe.compareAndSet(MAX, max, value))
+            max = stripe.get(MAX);
+    }
+
+    /**
+     * Sums the stripes. Values recorded while the snapshot is taken may or may not be included.
+     * @return snapshot
+     */
+    public LatencySnapshot snapshot() {
+        var bucketCounts = new long[BUCKET_COUNT];
+        long count = 0L;
+        long totalNanos = 0L;
+        long maxNanos = 0L;
+        for (var stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucketCount = stripe.get(i);
+                bucketCounts[i] += bucketCount;
+                count += bucketCount;
+            }
+            totalNanos += stripe.get(TOTAL);
+            maxNanos = Math.max(maxNanos, stripe.get(MAX));
+        }
+        return new LatencySnapshot(count, totalNanos, maxNanos, bucketCounts);
+    }
+
+    /**
+     * Clears every value. Values recorded while the histogram is reset may be partly lost.
+     */
+    public void reset() {
+        for (var stripe : stripes) {
+            for (int i = 0; i < stripe.length(); i++)
+                stripe.set(i, 0L);
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @param bucket
+     * @return largest value recorded into the bucket
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.caleb.rectangles.metrics;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}
+ * @param count number of recorded values
+ * @param totalNanos sum of the recorded values
+ * @param maxNanos largest recorded value
+ * @param bucketCounts number of values recorded into each bucket
+ */
+public record LatencySnapshot(long count, long totalNanos, long maxNanos, long[] bucketCounts) {
+
+    public double meanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Returns the value that the given percentage of recorded values are less than or equal to, rounded up to the
+     * top of its bucket but never above the largest recorded value
+     * @param percentile between 0 and 100
+     * @return latency in nanoseconds, or 0 when nothing was recorded
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        if (count == 0) return 0L;
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) return Math.min(LatencyHistogram.highestValueOf(i), maxNanos);
+        }
+        return maxNanos;
+    }
+}
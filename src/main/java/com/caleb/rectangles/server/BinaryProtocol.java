@@ -0,0 +1,202 @@
+package com.caleb.rectangles.server;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesResponse;
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesResponse.*;
+
+/**
+ * Length-prefixed binary framing for collision queries. All values are little-endian. Every frame is an
+ * int32 payload length followed by the payload. Responses are written in the order the requests arrive,
+ * so a client may pipeline many requests. A pipelining client must keep reading responses while it writes.
+ * The server stops reading requests while a write of responses is blocked, so a client that only reads after
+ * writing everything deadlocks once the unread responses fill the socket buffers.
+ * <pre>
+ * request payload (65 bytes)
+ *   uint8    flags: 1 = intersections, 2 = containment, 4 = adjacency
+ *   float64  x1, y1, w1, h1, x2, y2, w2, h2
+ *
+ * response payload
+ *   uint8    status: 0 = success, 1 = errors
+ *   success:
+ *     uint8  flags of the sections that follow, in flag order
+ *     intersections: int32 count, then count × (float64 x, float64 y)
+ *     containment:   uint8 bits: 1 = rect1ContainsRect2, 2 = rect2ContainsRect1
+ *     adjacency:     int32 count, then count × (uint8 type, uint8 axis, float64 constant, float64 lower, float64 upper)
+ *   errors:
+ *     int32  count, then count × (string key, int32 message count, message count × string message)
+ *   strings are a uint16 byte length followed by UTF-8 bytes
+ * </pre>
+ * Types and axes are the ordinals of {@link Adjacency.Types} and {@link LineSegment.OrthogonalAxis}.
+ */
+public final class BinaryProtocol {
+
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    public static final int FLAG_INTERSECTIONS = 1;
+    public static final int FLAG_CONTAINMENT = 2;
+    public static final int FLAG_ADJACENCY = 4;
+    public static final int FLAG_MASK = FLAG_INTERSECTIONS | FLAG_CONTAINMENT | FLAG_ADJACENCY;
+    public static final int STATUS_SUCCESS = 0;
+    public static final int STATUS_ERRORS = 1;
+    public static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+    public static final int REQUEST_PAYLOAD_SIZE = 1 + 8 * Double.BYTES;
+    /** Upper bound on the size of one response frame, prefix included */
+    public static final int MAX_RESPONSE_FRAME_SIZE = 4096;
+
+    private static final int CONTAINS_RECT2 = 1;
+    private static final int CONTAINED_BY_RECT2 = 2;
+
+    private BinaryProtocol() {}
+
+    /**
+     * Writes one request frame
+     * @param out
+     * @param flags combination of the FLAG constants
+     * @param rect1
+     * @param rect2
+     */
+    public static void writeRequest(ByteBuffer out, int flags, Rectangle rect1, Rectangle rect2) {
+        out.putInt(REQUEST_PAYLOAD_SIZE).put((byte) flags);
+        putRectangle(out, rect1);
+        putRectangle(out, rect2);
+    }
+
+    /**
+     * Writes one response frame
+     * @param out buffer with at least {@link #MAX_RESPONSE_FRAME_SIZE} bytes remaining
+     * @param response
+     */
+    public static void writeResponse(ByteBuffer out, RectanglesCollisionAttributesResponse response) {
+        int lengthPosition = out.position();
+        out.putInt(0);
+        if (response.isSuccess()) writeAttributes(out, response);
+        else writeErrors(out, response.errors());
+        out.putInt(lengthPosition, out.position() - lengthPosition - LENGTH_PREFIX_SIZE);
+    }
+
+    /**
+     * Writes one response frame reporting errors
+     * @param out buffer with at least {@link #MAX_RESPONSE_FRAME_SIZE} bytes remaining
+     * @param errors
+     */
+    public static void writeErrorResponse(ByteBuffer out, Map<String, String[]> errors) {
+        int lengthPosition = out.position();
+        out.putInt(0);
+        writeErrors(out, errors);
+        out.putInt(lengthPosition, out.position() - lengthPosition - LENGTH_PREFIX_SIZE);
+    }
+
+    /**
+     * Reads the payload of one response frame, after its length prefix
+     * @param in
+     * @return response without rectangles
+     */
+    public static RectanglesCollisionAttributesResponse readResponse(ByteBuffer in) {
+        int status = in.get();
+        if (status == STATUS_ERRORS) {
+            return new RectanglesCollisionAttributesResponse(readErrors(in), RectangleCollisionAttributes.EMPTY, Rectangles.NONE);
+        }
+        int flags = in.get();
+        Vector2[] intersections = null;
+        ContainmentInfo containmentInfo = null;
+        Adjacency[] adjacencyList = null;
+        if ((flags & FLAG_INTERSECTIONS) != 0) {
+            intersections = new Vector2[in.getInt()];
+            for (int i = 0; i < intersections.length; i++) intersections[i] = new Vector2(in.getDouble(), in.getDouble());
+        }
+        if ((flags & FLAG_CONTAINMENT) != 0) {
+            int bits = in.get();
+            containmentInfo = new ContainmentInfo((bits & CONTAINS_RECT2) != 0, (bits & CONTAINED_BY_RECT2) != 0);
+        }
+        if ((flags & FLAG_ADJACENCY) != 0) {
+            adjacencyList = new Adjacency[in.getInt()];
+            for (int i = 0; i < adjacencyList.length; i++) {
+                var type = Adjacency.Types.values()[in.get()];
+                var axis = LineSegment.OrthogonalAxis.values()[in.get()];
+                var segment = new LineSegment(axis, in.getDouble(), new LineSegment.ParallelAxisBounds(in.getDouble(), in.getDouble()));
+                adjacencyList[i] = new Adjacency(type, segment);
+            }
+        }
+        return new RectanglesCollisionAttributesResponse(
+                new HashMap<>(), new RectangleCollisionAttributes(intersections, containmentInfo, adjacencyList), Rectangles.NONE
+        );
+    }
+
+    private static void writeAttributes(ByteBuffer out, RectanglesCollisionAttributesResponse response) {
+        out.put((byte) STATUS_SUCCESS);
+        int flagsPosition = out.position();
+        int flags = 0;
+        out.put((byte) 0);
+        var intersections = response.intersections();
+        if (intersections.isPresent()) {
+            flags |= FLAG_INTERSECTIONS;
+            out.putInt(intersections.get().length);
+            for (Vector2 point : intersections.get()) out.putDouble(point.x()).putDouble(point.y());
+        }
+        var containmentInfo = response.containmentInfo();
+        if (containmentInfo.isPresent()) {
+            flags |= FLAG_CONTAINMENT;
+            var info = containmentInfo.get();
+            out.put((byte) ((info.rect1ContainsRect2() ? CONTAINS_RECT2 : 0) | (info.rect2ContainsRect1() ? CONTAINED_BY_RECT2 : 0)));
+        }
+        var adjacencyList = response.adjacencyList();
+        if (adjacencyList.isPresent()) {
+            flags |= FLAG_ADJACENCY;
+            out.putInt(adjacencyList.get().length);
+            for (Adjacency adjacency : adjacencyList.get()) {
+                var segment = adjacency.segment();
+                out.put((byte) adjacency.type().ordinal()).put((byte) segment.axis().ordinal())
+                        .putDouble(segment.constant())
+                        .putDouble(segment.bounds().lower())
+                        .putDouble(segment.bounds().upper());
+            }
+        }
+        out.put(flagsPosition, (byte) flags);
+    }
+
+    private static void writeErrors(ByteBuffer out, Map<String, String[]> errors) {
+        out.put((byte) STATUS_ERRORS).putInt(errors.size());
+        for (Map.Entry<String, String[]> entry : errors.entrySet()) {
+            putString(out, entry.getKey());
+            out.putInt(entry.getValue().length);
+            for (String message : entry.getValue()) putString(out, message);
+        }
+    }
+
+    private static Map<String, String[]> readErrors(ByteBuffer in) {
+        var errors = new HashMap<String, String[]>();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            var key = getString(in);
+            var messages = new String[in.getInt()];
+            for (int j = 0; j < messages.length; j++) messages[j] = getString(in);
+            errors.put(key, messages);
+        }
+        return errors;
+    }
+
+    private static void putRectangle(ByteBuffer out, Rectangle rectangle) {
+        out.putDouble(rectangle.topLeft().x()).putDouble(rectangle.topLeft().y())
+                .putDouble(rectangle.size().width()).putDouble(rectangle.size().height());
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        var bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
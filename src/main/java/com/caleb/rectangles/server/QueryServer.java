@@ -0,0 +1,184 @@
+package com.caleb.rectangles.server;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.json.CollisionAttributesJson;
+import com.caleb.rectangles.json.JsonFormatException;
+import com.caleb.rectangles.json.JsonReader;
+import com.caleb.rectangles.json.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+
+/**
+ * Serves the interactor over HTTP with JSON bodies that mirror the query and response records.
+ * <ul>
+ *     <li>{@code POST /query} takes one query object and returns one response object.</li>
+ *     <li>{@code POST /batch} takes an array of query objects and returns an array of responses in the same order.</li>
+ * </ul>
+ * Each request runs on its own virtual thread. At most {@code maxPendingRequests} requests are handled at
+ * once; requests beyond that are rejected immediately with 503 so that load is shed instead of queued.
+ * <p>
+ * A request holds its body, the decoded text and the parsed tree at once, which together take up to about four
+ * times the body size. The heap used by requests in flight is therefore bounded by roughly
+ * 4 × {@code maxBodyBytes} × {@code maxPendingRequests}, and the default body limit is sized for batches of a
+ * few thousand queries rather than bulk uploads.
+ */
+public class QueryServer {
+
+    public static final int DEFAULT_MAX_PENDING_REQUESTS = 1024;
+    public static final int DEFAULT_MAX_BODY_BYTES = 256 * 1024;
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final RectanglesCollisionAttributesInteractor interactor;
+    private final QueryFlags defaultFlags;
+    private final Semaphore pendingRequests;
+    private final int maxBodyBytes;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public QueryServer(
+            RectanglesCollisionAttributesInteractor interactor,
+            QueryFlags defaultFlags,
+            InetSocketAddress address
+    ) throws IOException {
+        this(interactor, defaultFlags, address, DEFAULT_MAX_PENDING_REQUESTS, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    /**
+     * Binds the server without starting it
+     * @param interactor
+     * @param defaultFlags flags to use for queries that do not set them
+     * @param address address to bind, with port 0 choosing a free port
+     * @param maxPendingRequests requests handled at once before new ones are rejected with 503
+     * @param maxBodyBytes largest accepted request body, larger bodies are rejected with 413
+     * @throws IOException if the address cannot be bound
+     */
+    public QueryServer(
+            RectanglesCollisionAttributesInteractor interactor,
+            QueryFlags defaultFlags,
+            InetSocketAddress address,
+            int maxPendingRequests,
+            int maxBodyBytes
+    ) throws IOException {
+        if (maxPendingRequests <= 0) throw new IllegalArgumentException("maxPendingRequests must be positive");
+        if (maxBodyBytes <= 0) throw new IllegalArgumentException("maxBodyBytes must be positive");
+        this.interactor = interactor;
+        this.defaultFlags = defaultFlags;
+        this.pendingRequests = new Semaphore(maxPendingRequests);
+        this.maxBodyBytes = maxBodyBytes;
+        this.server = HttpServer.create(address, maxPendingRequests);
+        server.setExecutor(executor);
+        server.createContext("/query", exchange -> handle(exchange, false));
+        server.createContext("/batch", exchange -> handle(exchange, true));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and waits up to the given delay for in-flight requests to finish
+     * @param delaySeconds
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    private void handle(HttpExchange exchange, boolean batch) throws IOException {
+        try {
+            if (!pendingRequests.tryAcquire()) {
+                sendError(exchange, 503, "server", "Too many pending requests");
+                return;
+            }
+            try {
+                respond(exchange, batch);
+            }
+            finally {
+                pendingRequests.release();
+            }
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, boolean batch) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "POST");
+            exchange.sendResponseHeaders(405, -1);
+            return;
+        }
+        var body = exchange.getRequestBody().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            sendError(exchange, 413, "input", "The request body exceeds " + maxBodyBytes + " bytes");
+            return;
+        }
+        Object json;
+        try {
+            json = JsonReader.parse(new String(body, StandardCharsets.UTF_8));
+            if (batch && !(json instanceof List<?>)) throw new JsonFormatException("Expected a JSON array");
+        }
+        catch (JsonFormatException err) {
+            sendError(exchange, 400, "input", err.getMessage());
+            return;
+        }
+
+        var result = new StringBuilder();
+        var writer = new JsonWriter(result);
+        if (batch) {
+            writer.beginArray();
+            for (Object query : (List<?>) json) writeResult(writer, query);
+            writer.endArray();
+        }
+        else {
+            writeResult(writer, json);
+        }
+        send(exchange, 200, result);
+    }
+
+    private void writeResult(JsonWriter writer, Object query) {
+        writer.beginObject();
+        try {
+            var response = interactor.Execute(CollisionAttributesJson.readQuery(query, defaultFlags));
+            CollisionAttributesJson.writeResponseMembers(writer, response);
+        }
+        catch (JsonFormatException err) {
+            writer.name("success").value(false);
+            CollisionAttributesJson.writeErrors(writer, Map.of("input", new String[] { err.getMessage() }));
+        }
+        writer.endObject();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String key, String message) throws IOException {
+        var result = new StringBuilder();
+        var writer = new JsonWriter(result).beginObject().name("success").value(false);
+        CollisionAttributesJson.writeErrors(writer, Map.of(key, new String[] { message }));
+        writer.endObject();
+        send(exchange, status, result);
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        var bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.caleb.rectangles.server;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.domain.InvalidRectangleException;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.caleb.rectangles.server.BinaryProtocol.*;
+
+/**
+ * Serves {@link BinaryProtocol} queries on a Unix domain socket for callers on the same host. Each
+ * connection runs on its own virtual thread. Every request already buffered is answered before the
+ * responses are written back together, so pipelined requests cost one read and one write per batch.
+ * No requests are read while that write is blocked, so pipelining clients must read responses as they write.
+ * Rectangles are decoded from raw doubles without going through the string parser.
+ */
+public class UnixSocketServer implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RectanglesCollisionAttributesInteractor interactor;
+    private final Path socketPath;
+    private final ServerSocketChannel serverChannel;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private Thread acceptor;
+
+    /**
+     * Binds the socket without accepting connections yet
+     * @param interactor
+     * @param socketPath path of the socket file, which must not exist
+     * @throws IOException if the socket cannot be bound
+     */
+    public UnixSocketServer(RectanglesCollisionAttributesInteractor interactor, Path socketPath) throws IOException {
+        this.interactor = interactor;
+        this.socketPath = socketPath;
+        this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+        }
+        catch (IOException err) {
+            serverChannel.close();
+            throw err;
+        }
+    }
+
+    public void start() {
+        acceptor = Thread.ofPlatform().name("unix-socket-acceptor").daemon().start(this::acceptConnections);
+    }
+
+    public Path socketPath() {
+        return socketPath;
+    }
+
+    /**
+     * Stops accepting connections, closes open ones and removes the socket file
+     * @throws IOException if the socket file cannot be removed
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        for (SocketChannel connection : connections) connection.close();
+        if (acceptor != null) acceptor.interrupt();
+        Files.deleteIfExists(socketPath);
+    }
+
+    private void acceptConnections() {
+        while (serverChannel.isOpen()) {
+            try {
+                var connection = serverChannel.accept();
+                connections.add(connection);
+                Thread.ofVirtual().start(() -> serve(connection));
+            }
+            catch (ClosedChannelException err) {
+                return;
+            }
+            catch (IOException err) {
+                System.err.println("Failed to accept a connection: " + err.getMessage());
+            }
+        }
+    }
+
+    private void serve(SocketChannel connection) {
+        var in = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+        var out = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BYTE_ORDER);
+        try (connection) {
+            while (connection.read(in) >= 0) {
+                in.flip();
+                boolean framingIsValid = answerBufferedRequests(connection, in, out);
+                flush(connection, out);
+                if (!framingIsValid) return;
+                in.compact();
+            }
+        }
+        catch (IOException err) {
+            // the client went away; nothing left to answer
+        }
+        finally {
+            connections.remove(connection);
+        }
+    }
+
+    /**
+     * Answers every complete request in the buffer, leaving a trailing partial frame in place
+     * @return false if a frame has an unexpected length, after which the stream cannot be trusted
+     */
+    private boolean answerBufferedRequests(SocketChannel connection, ByteBuffer in, ByteBuffer out) throws IOException {
+        while (in.remaining() >= LENGTH_PREFIX_SIZE) {
+            int length = in.getInt(in.position());
+            if (length != REQUEST_PAYLOAD_SIZE) {
+                writeErrorResponse(out, Map.of("input", new String[] {
+                        String.format("Expected a request payload of %d bytes but found %d", REQUEST_PAYLOAD_SIZE, length)
+                }));
+                return false;
+            }
+            if (in.remaining() < LENGTH_PREFIX_SIZE + length) break;
+            in.position(in.position() + LENGTH_PREFIX_SIZE);
+            answerRequest(in, out);
+            if (out.remaining() < MAX_RESPONSE_FRAME_SIZE) flush(connection, out);
+        }
+        return true;
+    }
+
+    private void answerRequest(ByteBuffer in, ByteBuffer out) {
+        int flags = in.get();
+        var errors = new HashMap<String, String[]>();
+        if ((flags & FLAG_MASK) == 0)
+            errors.put("queryFlags", new String[] { "At least one query flag must be set" });
+        else if ((flags & ~FLAG_MASK) != 0)
+            errors.put("queryFlags", new String[] { "Unknown query flag bits " + (flags & ~FLAG_MASK & 0xFF) });
+        var rect1 = readRectangle(in, "rectangle1", errors);
+        var rect2 = readRectangle(in, "rectangle2", errors);
+        if (!errors.isEmpty()) {
+            writeErrorResponse(out, errors);
+            return;
+        }
+        var response = interactor.Execute(
+                rect1, rect2,
+                (flags & FLAG_INTERSECTIONS) != 0,
+                (flags & FLAG_CONTAINMENT) != 0,
+                (flags & FLAG_ADJACENCY) != 0
+        );
+        writeResponse(out, response);
+    }
+
+    private static Rectangle readRectangle(ByteBuffer in, String rectangleName, HashMap<String, String[]> errors) {
+        double x = in.getDouble();
+        double y = in.getDouble();
+        double width = in.getDouble();
+        double height = in.getDouble();
+        try {
+            return new Rectangle(new Vector2(x, y), new Size(width, height));
+        }
+        catch (InvalidRectangleException err) {
+            for (Map.Entry<String, String[]> entry : err.invariantViolations().entrySet())
+                errors.put(rectangleName + "." + entry.getKey(), entry.getValue());
+            return null;
+        }
+    }
+
+    private static void flush(SocketChannel connection, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) connection.write(out);
+        out.clear();
+    }
+}
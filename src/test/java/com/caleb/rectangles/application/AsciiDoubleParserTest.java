@@ -0,0 +1,65 @@
+package com.caleb.rectangles.application;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiDoubleParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0", "-0", "+0", "0.0", "-0.0", "1", "-1", "1.", ".5", "-.5", "12.5", "  7.25\t", "3e4", "3E-4",
+            "1e22", "1e23", "1e-22", "1e-23", "9007199254740992", "9007199254740993", "0.1", "0.30000000000000004",
+            "123456789012345678901234567890", "0000000000000000000000001.5", "1.7976931348623157e308", "4.9e-324",
+            "1e400", "-1e400", "NaN", "Infinity", "-Infinity", "0x1.8p1", "1.5d", "2.5f", "1e0001"
+    })
+    void givenValidText_whenParsing_thenTheResultIsIdenticalToDoubleParseDouble(String text) {
+        // Arrange
+        var bytes = ("#" + text + "#").getBytes(StandardCharsets.US_ASCII);
+        // Act
+        var value = AsciiDoubleParser.parse(bytes, 1, bytes.length - 1);
+        // Assert
+        assertEquals(0, Double.compare(Double.parseDouble(text), value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", " ", "-", "+", ".", "e5", "1e", "1e+", "1.2.3", "--1", "1,5", "x", "1 2", "0x", "é" })
+    void givenInvalidText_whenParsing_thenNumberFormatExceptionIsThrownLikeDoubleParseDouble(String text) {
+        // Arrange
+        var bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        // Act & Assert
+        assertThrows(NumberFormatException.class, () -> Double.parseDouble(text));
+        assertThrows(NumberFormatException.class, () -> AsciiDoubleParser.parse(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void givenRandomDecimals_whenParsing_thenEveryResultIsIdenticalToDoubleParseDouble() {
+        // Arrange
+        var random = new Random(15);
+        // Act & Assert
+        for (int i = 0; i < 200000; i++) {
+            var text = randomDecimal(random);
+            var bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(0, Double.compare(Double.parseDouble(text), AsciiDoubleParser.parse(bytes, 0, bytes.length)), text);
+        }
+    }
+
+    private static String randomDecimal(Random random) {
+        var text = new StringBuilder();
+        if (random.nextBoolean()) text.append('-');
+        int integerDigits = random.nextInt(12);
+        for (int i = 0; i < integerDigits; i++) text.append((char) ('0' + random.nextInt(10)));
+        if (integerDigits == 0 || random.nextBoolean()) {
+            text.append('.');
+            int fractionDigits = 1 + random.nextInt(12);
+            for (int i = 0; i < fractionDigits; i++) text.append((char) ('0' + random.nextInt(10)));
+        }
+        if (random.nextInt(4) == 0) text.append('e').append(random.nextInt(61) - 30);
+        return text.toString();
+    }
+}
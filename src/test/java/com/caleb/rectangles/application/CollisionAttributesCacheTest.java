@@ -0,0 +1,129 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionAttributesCacheTest {
+
+    private final RectanglesCollisionAttributesInteractor uncached = new RectanglesCollisionAttributesInteractor(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+
+    @Test
+    void givenTheSameConfigurationAtDifferentOffsets_whenExecuting_thenLaterQueriesHitAndResultsAreTranslated() {
+        // Arrange
+        var cache = new CollisionAttributesCache(16);
+        var cached = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder(), cache);
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            var rect1 = new Rectangle(new Vector2(100.0 * i, 40.0 * i), new Size(50.0, 20.0));
+            var rect2 = new Rectangle(new Vector2(100.0 * i + 50.0, 40.0 * i - 5.0), new Size(50.0, 10.0));
+            assertSameResponse(
+                    uncached.Execute(rect1, rect2, true, true, true),
+                    cached.Execute(rect1, rect2, true, true, true)
+            );
+        }
+        assertEquals(1, cache.misses());
+        assertEquals(9, cache.hits());
+        assertEquals(0, cache.bypasses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void givenMoreConfigurationsThanTheCacheHolds_whenExecuting_thenTheLeastRecentlyUsedEntryIsEvicted() {
+        // Arrange
+        var cache = new CollisionAttributesCache(2);
+        var cached = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder(), cache);
+        var rect1 = new Rectangle(new Vector2(0.0, 0.0), new Size(4.0, 4.0));
+        var rect2 = new Rectangle(new Vector2(1.0, -1.0), new Size(1.0, 1.0));
+        var rect3 = new Rectangle(new Vector2(2.0, -1.0), new Size(1.0, 1.0));
+        var rect4 = new Rectangle(new Vector2(3.0, -1.0), new Size(1.0, 1.0));
+        // Act
+        cached.Execute(rect1, rect2, true, false, false);
+        cached.Execute(rect1, rect3, true, false, false);
+        cached.Execute(rect1, rect2, true, false, false);
+        cached.Execute(rect1, rect4, true, false, false);
+        cached.Execute(rect1, rect3, true, false, false);
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.hits());
+        assertEquals(4, cache.misses());
+    }
+
+    @Test
+    void givenDifferentFlags_whenExecuting_thenEntriesAreKeptApart() {
+        // Arrange
+        var cache = new CollisionAttributesCache(16);
+        var cached = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder(), cache);
+        var rect1 = new Rectangle(new Vector2(0.0, 0.0), new Size(4.0, 4.0));
+        var rect2 = new Rectangle(new Vector2(1.0, -1.0), new Size(1.0, 1.0));
+        // Act
+        var containment = cached.Execute(rect1, rect2, false, true, false);
+        var intersections = cached.Execute(rect1, rect2, true, false, false);
+        // Assert
+        assertEquals(2, cache.misses());
+        assertTrue(containment.containmentInfo().isPresent());
+        assertTrue(intersections.containmentInfo().isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3, 4 })
+    void givenAwkwardFloatingPointPairs_whenExecutingThroughTheCache_thenResultsAreIdenticalToTheUncachedPath(int seed) {
+        // Arrange
+        var random = new Random(seed);
+        var cache = new CollisionAttributesCache(64);
+        var cached = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder(), cache);
+        double[] values = { 0.0, -0.0, 0.1, 0.2, 0.3, 1.0 / 3.0, 1.0, 2.5, 1e-300, 1e16, 1e16 + 2.0, -7.75, 123456.789 };
+        var shapes = new double[32][];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = new double[] {
+                    positive(random, values), positive(random, values),
+                    pick(random, values), pick(random, values),
+                    positive(random, values), positive(random, values)
+            };
+        }
+        // Act & Assert
+        for (int i = 0; i < 20000; i++) {
+            var shape = shapes[random.nextInt(shapes.length)];
+            double x = pick(random, values);
+            double y = pick(random, values);
+            var rect1 = new Rectangle(new Vector2(x, y), new Size(shape[0], shape[1]));
+            var rect2 = new Rectangle(new Vector2(x + shape[2], y + shape[3]), new Size(shape[4], shape[5]));
+            assertSameResponse(
+                    uncached.Execute(rect1, rect2, true, true, true),
+                    cached.Execute(rect1, rect2, true, true, true)
+            );
+        }
+        assertTrue(cache.hits() > 0);
+        assertTrue(cache.bypasses() > 0);
+    }
+
+    private static double pick(Random random, double[] values) {
+        return random.nextBoolean() ? values[random.nextInt(values.length)] : random.nextInt(8) * 0.5;
+    }
+
+    private static double positive(Random random, double[] values) {
+        var value = Math.abs(pick(random, values));
+        return value > 0 ? value : 1.0;
+    }
+
+    private static void assertSameResponse(
+            RectanglesCollisionAttributesResponse expected, RectanglesCollisionAttributesResponse actual
+    ) {
+        assertEquals(expected.isSuccess(), actual.isSuccess());
+        assertArrayEquals(expected.intersections().orElse(null), actual.intersections().orElse(null));
+        assertEquals(expected.containmentInfo(), actual.containmentInfo());
+        assertArrayEquals(expected.adjacencyList().orElse(null), actual.adjacencyList().orElse(null));
+        assertEquals(expected.rectangles(), actual.rectangles());
+    }
+}
@@ -0,0 +1,78 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionQueryEventTest {
+
+    @Test
+    void givenAnEnabledRecording_whenExecutingQueries_thenOneEventPerQueryIsRecordedWithItsOutcome() throws IOException {
+        // Arrange
+        var interactor = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder());
+        var rect1 = new Rectangle(new Vector2(0.0, 10.0), new Size(5.0, 5.0));
+        var rect2 = new Rectangle(new Vector2(3.0, 8.0), new Size(5.0, 5.0));
+        var path = Files.createTempFile("rectangles", ".jfr");
+        List<RecordedEvent> events;
+        // Act
+        try (var recording = new Recording()) {
+            recording.enable("com.caleb.rectangles.CollisionQuery");
+            recording.start();
+            interactor.Execute(rect1, rect2, true, false, true);
+            interactor.Execute(rect1, rect2, false, false, false);
+            recording.stop();
+            recording.dump(path);
+            events = RecordingFile.readAllEvents(path);
+        }
+        finally {
+            Files.deleteIfExists(path);
+        }
+        // Assert
+        assertEquals(2, events.size());
+        var succeeded = events.stream().filter(event -> event.getBoolean("success")).findFirst().orElseThrow();
+        assertTrue(succeeded.getBoolean("queryIntersections"));
+        assertFalse(succeeded.getBoolean("queryContainment"));
+        assertTrue(succeeded.getBoolean("queryAdjacency"));
+        assertEquals(2, succeeded.getInt("intersections"));
+        assertEquals(0, succeeded.getInt("adjacencies"));
+        assertEquals(0L, succeeded.getDuration("containmentDuration").toNanos());
+        var failed = events.stream().filter(event -> !event.getBoolean("success")).findFirst().orElseThrow();
+        assertEquals(0, failed.getInt("intersections"));
+    }
+
+    @Test
+    void givenARecordingWithTheDefaultProfile_whenExecutingQueries_thenNoQueryEventsAreRecorded() throws Exception {
+        // Arrange
+        var interactor = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), new IntersectionFinder());
+        var rect1 = new Rectangle(new Vector2(0.0, 10.0), new Size(5.0, 5.0));
+        var rect2 = new Rectangle(new Vector2(3.0, 8.0), new Size(5.0, 5.0));
+        var path = Files.createTempFile("rectangles", ".jfr");
+        List<RecordedEvent> events;
+        // Act
+        try (var recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.start();
+            interactor.Execute(rect1, rect2, true, false, true);
+            recording.stop();
+            recording.dump(path);
+            events = RecordingFile.readAllEvents(path);
+        }
+        finally {
+            Files.deleteIfExists(path);
+        }
+        // Assert
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().startsWith("com.caleb.rectangles.")));
+    }
+}
@@ -0,0 +1,115 @@
+package com.caleb.rectangles.application;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IAdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IIntersectionFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyCollisionAttributesTest {
+
+    private final Rectangle rect1 = new Rectangle(new Vector2(0.0, 10.0), new Size(5.0, 5.0));
+    private final Rectangle rect2 = new Rectangle(new Vector2(5.0, 8.0), new Size(5.0, 5.0));
+    private final AtomicInteger intersectionSearches = new AtomicInteger();
+    private final AtomicInteger adjacencySearches = new AtomicInteger();
+    private final IIntersectionFinder intersectionFinder = (a, b) -> {
+        intersectionSearches.incrementAndGet();
+        return new IntersectionFinder().findAll(a, b);
+    };
+    private final IAdjacencyFinder adjacencyFinder = (a, b) -> {
+        adjacencySearches.incrementAndGet();
+        return new AdjacencyFinder().findAll(a, b);
+    };
+    private final RectanglesCollisionAttributesInteractor interactor =
+            new RectanglesCollisionAttributesInteractor(adjacencyFinder, intersectionFinder);
+
+    @Test
+    void givenALazyResponse_whenReadingOnlyContainment_thenTheOtherAttributesAreNeverComputed() {
+        // Arrange
+        var response = interactor.ExecuteLazily(rect1, rect2, true, true, true);
+        // Act
+        var containmentInfo = response.containmentInfo().orElseThrow();
+        // Assert
+        assertFalse(containmentInfo.rect1ContainsRect2());
+        assertFalse(containmentInfo.rect2ContainsRect1());
+        assertEquals(0, intersectionSearches.get());
+        assertEquals(0, adjacencySearches.get());
+    }
+
+    @Test
+    void givenALazyResponse_whenReadingEveryAttributeTwice_thenEachIsComputedOnceAndMatchesTheEagerResponse() {
+        // Arrange
+        var eager = interactor.Execute(rect1, rect2, true, true, true);
+        intersectionSearches.set(0);
+        adjacencySearches.set(0);
+        var lazy = interactor.ExecuteLazily(rect1, rect2, true, true, true);
+        // Act
+        var intersections = lazy.intersections().orElseThrow();
+        var adjacencyList = lazy.adjacencyList().orElseThrow();
+        // Assert
+        assertSame(intersections, lazy.intersections().orElseThrow());
+        assertSame(adjacencyList, lazy.adjacencyList().orElseThrow());
+        assertArrayEquals(eager.intersections().orElseThrow(), intersections);
+        assertEquals(eager.containmentInfo().orElseThrow(), lazy.containmentInfo().orElseThrow());
+        assertArrayEquals(eager.adjacencyList().orElseThrow(), adjacencyList);
+        assertEquals(1, intersectionSearches.get());
+        assertEquals(1, adjacencySearches.get());
+    }
+
+    @Test
+    void givenManyThreadsReadingTheSameAttribute_whenFirstAccessed_thenItIsComputedOnce() throws InterruptedException {
+        // Arrange
+        var response = interactor.ExecuteLazily(rect1, rect2, false, false, true);
+        var start = new CountDownLatch(1);
+        var results = new Adjacency[16][];
+        var threads = new ArrayList<Thread>();
+        // Act
+        for (int i = 0; i < results.length; i++) {
+            int index = i;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                }
+                results[index] = response.adjacencyList().orElseThrow();
+            }));
+        }
+        start.countDown();
+        for (var thread : threads)
+            thread.join();
+        // Assert
+        assertEquals(1, adjacencySearches.get());
+        for (var result : results)
+            assertSame(results[0], result);
+        assertTrue(response.intersections().isEmpty());
+        assertTrue(response.containmentInfo().isEmpty());
+    }
+
+    @Test
+    void givenAnInvalidLazyQuery_whenExecuting_thenErrorsAreReturnedImmediately() {
+        // Arrange
+        var query = new RectanglesCollisionAttributesQuery(
+                new RectanglesCollisionAttributesQuery.RectangleRawData("0", "10", "5", "five"),
+                new RectanglesCollisionAttributesQuery.RectangleRawData("5", "8", "5", "5"),
+                true, true, true
+        );
+        // Act
+        var response = interactor.ExecuteLazily(query);
+        // Assert
+        assertFalse(response.isSuccess());
+        assertTrue(response.errors().containsKey("rectangle1.size.height"));
+        assertTrue(response.intersections().isEmpty());
+    }
+}
@@ -0,0 +1,99 @@
+package com.caleb.rectangles.batch;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    private final RectanglesCollisionAttributesInteractor interactor = new RectanglesCollisionAttributesInteractor(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+
+    @Test
+    void givenCsvRecords_whenRunningABatch_thenOneResultIsWrittenPerRecordAndInvalidRecordsDoNotStopTheBatch() throws IOException {
+        // Arrange
+        var runner = new BatchRunner(interactor, BatchFormat.CSV, new QueryFlags(false, true, false));
+        var input = new StringReader("""
+                0.0, 2.0, 3.0, 4.0, 1.0, 1.0, 1.0, 1.0
+                # comment
+
+                0.0, 2.0, w, 4.0, 1.0, 1.0, 1.0, 1.0
+                0.0, 2.0, 3.0
+                5.0, 5.0, 1.0, 1.0, 0.0, 0.0, 1.0, 1.0
+                """);
+        var output = new StringWriter();
+        // Act
+        var summary = runner.run(input, output);
+        // Assert
+        assertEquals(new BatchSummary(4, 2), summary);
+        assertArrayEquals(new String[] {
+                "{\"line\":1,\"success\":true,\"containmentInfo\":{\"rect1ContainsRect2\":true,\"rect2ContainsRect1\":false}}",
+                "{\"line\":4,\"success\":false,\"errors\":{\"rectangle1.size.width\":[\"The width of rectangle1 is not a number\"]}}",
+                "{\"line\":5,\"success\":false,\"errors\":{\"input\":[\"Expected 8 comma-separated values but found 3\"]}}",
+                "{\"line\":6,\"success\":true,\"containmentInfo\":{\"rect1ContainsRect2\":false,\"rect2ContainsRect1\":false}}"
+        }, output.toString().split("\n"));
+    }
+
+    @Test
+    void givenNdjsonRecords_whenRunningABatch_thenRecordFlagsOverrideTheDefaults() throws IOException {
+        // Arrange
+        var runner = new BatchRunner(interactor, BatchFormat.NDJSON, new QueryFlags(true, false, false));
+        var input = new StringReader("""
+                {"rectangle1Data":{"x":0,"y":2,"w":3,"h":4},"rectangle2Data":{"x":"3","y":2,"w":1,"h":4},"queryAdjacency":true}
+                {"rectangle1Data":{"x":0,"y":2,"w":3,"h":4}
+                """);
+        var output = new StringWriter();
+        // Act
+        var summary = runner.run(input, output);
+        // Assert
+        assertEquals(new BatchSummary(2, 1), summary);
+        var lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"line\":1,\"success\":true,\"intersections\":["));
+        assertTrue(lines[0].endsWith(
+                "\"adjacencyList\":[{\"type\":\"Proper\",\"segment\":{\"axis\":\"X\",\"constant\":3.0,\"bounds\":{\"lower\":-2.0,\"upper\":2.0}}}]}"
+        ));
+        assertTrue(lines[1].startsWith("{\"line\":2,\"success\":false,\"errors\":{\"input\":["));
+    }
+
+    @Test
+    void givenCsvBytes_whenRunningABatchFromAStream_thenOutputIsIdenticalToRunningFromAReader() throws IOException {
+        // Arrange
+        var random = new Random(15);
+        String[] fields = { "0", "1.5", "-2", " 3 ", "1e2", "0.1", "-0.0", "w", "", "NaN", "-4", "1e400", "0x1p2", "7d", "é" };
+        String[] terminators = { "\n", "\r\n", "\r" };
+        var text = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            int fieldCount = random.nextInt(20) == 0 ? 7 : 8;
+            for (int j = 0; j < fieldCount; j++) {
+                if (j > 0) text.append(',');
+                text.append(fields[random.nextInt(fields.length)]);
+            }
+            if (random.nextInt(50) == 0) text.append(terminators[0]).append("# comment");
+            if (random.nextInt(50) == 0) text.append(terminators[0]).append(" \t");
+            text.append(terminators[random.nextInt(terminators.length)]);
+        }
+        text.append("1,1,1,1,1,1,1,1");
+        var runner = new BatchRunner(interactor, BatchFormat.CSV, new QueryFlags(true, true, true));
+        var expected = new StringWriter();
+        var actual = new StringWriter();
+        // Act
+        var expectedSummary = runner.run(new StringReader(text.toString()), expected);
+        var actualSummary = runner.run(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), actual);
+        // Assert
+        assertEquals(expectedSummary, actualSummary);
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
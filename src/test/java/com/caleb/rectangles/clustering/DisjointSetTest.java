@@ -0,0 +1,23 @@
+package com.caleb.rectangles.clustering;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisjointSetTest {
+
+    @Test
+    void givenSingletons_whenJoiningAChain_thenAllElementsShareARoot() {
+        // Arrange
+        var disjointSet = new DisjointSet(5);
+        // Act
+        boolean joined = disjointSet.union(0, 1) & disjointSet.union(2, 1) & disjointSet.union(3, 2);
+        boolean rejoined = disjointSet.union(0, 3);
+        // Assert
+        assertTrue(joined);
+        assertFalse(rejoined);
+        assertEquals(2, disjointSet.sets());
+        assertTrue(disjointSet.connected(0, 3));
+        assertFalse(disjointSet.connected(0, 4));
+    }
+}
@@ -0,0 +1,97 @@
+package com.caleb.rectangles.clustering;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RectangleClustererTest {
+
+    @Test
+    void givenAChainOfOverlappingRectangles_whenClustering_thenTheChainIsOneCluster() {
+        // Arrange
+        var edges = RectangleBuffer.of(
+                new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(10.0, 2.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(1.0, 3.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(2.0, 4.0), new Size(2.0, 2.0))
+        );
+        // Act
+        var clusters = new RectangleClusterer().findAll(edges);
+        // Assert
+        assertEquals(2, clusters.count());
+        assertArrayEquals(new int[] { 0, 1, 0, 0 }, clusters.labels());
+        assertArrayEquals(new int[] { 0, 2, 3 }, clusters.members(0));
+        assertArrayEquals(new int[] { 3, 1 }, clusters.sizes());
+    }
+
+    @Test
+    void givenNestedRectangles_whenClusteringByIntersectionOnly_thenTheyAreSeparateClusters() {
+        // Arrange
+        var edges = RectangleBuffer.of(
+                new Rectangle(new Vector2(0.0, 10.0), new Size(10.0, 10.0)),
+                new Rectangle(new Vector2(2.0, 8.0), new Size(2.0, 2.0))
+        );
+        // Act
+        var byIntersection = new RectangleClusterer(EnumSet.of(Relation.INTERSECTION)).findAll(edges);
+        var byContainment = new RectangleClusterer(EnumSet.of(Relation.CONTAINMENT)).findAll(edges);
+        // Assert
+        assertEquals(2, byIntersection.count());
+        assertEquals(1, byContainment.count());
+    }
+
+    @Test
+    void givenRectanglesSharingPartOfAnEdge_whenClusteringByAdjacencyType_thenOnlyTheChosenTypeLinksThem() {
+        // Arrange
+        var edges = RectangleBuffer.of(
+                new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(2.0, 3.0), new Size(2.0, 2.0))
+        );
+        // Act
+        var byPartial = new RectangleClusterer(EnumSet.of(Relation.PARTIAL_ADJACENCY)).findAll(edges);
+        var byProperOrSubLine = new RectangleClusterer(
+                EnumSet.of(Relation.PROPER_ADJACENCY, Relation.SUBLINE_ADJACENCY)
+        ).findAll(edges);
+        // Assert
+        assertEquals(1, byPartial.count());
+        assertEquals(2, byProperOrSubLine.count());
+    }
+
+    @Test
+    void givenNoRelations_whenCreatingAClusterer_thenAnIllegalArgumentExceptionIsThrown() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RectangleClusterer(EnumSet.noneOf(Relation.class)));
+    }
+
+    @Test
+    void givenRandomGridRectangles_whenClustering_thenTheClustersMatchAPairwiseClosure() {
+        // Arrange
+        var random = new Random(22);
+        var edges = new RectangleBuffer();
+        for (int i = 0; i < 300; i++) {
+            edges.add(random.nextInt(60), random.nextInt(60), 1 + random.nextInt(4), 1 + random.nextInt(4));
+        }
+        var expected = new DisjointSet(edges.size());
+        for (int i = 0; i < edges.size(); i++) {
+            for (int j = i + 1; j < edges.size(); j++) {
+                if (edges.intersects(i, j) || edges.contains(i, j) || edges.contains(j, i) || edges.isAdjacent(i, j))
+                    expected.union(i, j);
+            }
+        }
+        // Act
+        var clusters = new RectangleClusterer().findAll(edges);
+        // Assert
+        assertEquals(expected.sets(), clusters.count());
+        for (int i = 0; i < edges.size(); i++) {
+            for (int j = i + 1; j < edges.size(); j++) {
+                assertEquals(expected.connected(i, j), clusters.labels()[i] == clusters.labels()[j]);
+            }
+        }
+    }
+}
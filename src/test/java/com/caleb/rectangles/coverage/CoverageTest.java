@@ -0,0 +1,121 @@
+package com.caleb.rectangles.coverage;
+
+import com.caleb.rectangles.domain.LineSegment;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.caleb.rectangles.domain.LineSegment.OrthogonalAxis.X;
+import static com.caleb.rectangles.domain.LineSegment.OrthogonalAxis.Y;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoverageTest {
+
+    private static final int GRID = 12;
+
+    @Test
+    void givenTwoOverlappingRectangles_whenFindingTheUnionArea_thenTheOverlapIsCountedOnce() {
+        // Arrange
+        var rect1 = new Rectangle(new Vector2(0.0, 4.0), new Size(4.0, 4.0));
+        var rect2 = new Rectangle(new Vector2(2.0, 6.0), new Size(4.0, 4.0));
+        // Act
+        var area = Coverage.unionArea(rect1, rect2);
+        // Assert
+        assertEquals(28.0, area);
+    }
+
+    @Test
+    void givenARingOfRectangles_whenFindingTheUnionBoundary_thenTheOuterAndHoleBoundariesAreFound() {
+        // Arrange
+        var edges = RectangleBuffer.of(
+                new Rectangle(new Vector2(0.0, 3.0), new Size(3.0, 1.0)),
+                new Rectangle(new Vector2(0.0, 1.0), new Size(3.0, 1.0)),
+                new Rectangle(new Vector2(0.0, 3.0), new Size(1.0, 3.0)),
+                new Rectangle(new Vector2(2.0, 3.0), new Size(1.0, 3.0))
+        );
+        // Act
+        var boundary = Coverage.unionBoundary(edges);
+        // Assert
+        assertArrayEquals(new LineSegment[] {
+                segment(X, 0.0, 0.0, 3.0),
+                segment(X, 1.0, 1.0, 2.0),
+                segment(X, 2.0, 1.0, 2.0),
+                segment(X, 3.0, 0.0, 3.0),
+                segment(Y, 0.0, 0.0, 3.0),
+                segment(Y, 1.0, 1.0, 2.0),
+                segment(Y, 2.0, 1.0, 2.0),
+                segment(Y, 3.0, 0.0, 3.0)
+        }, boundary);
+        assertEquals(8.0, Coverage.unionArea(edges));
+    }
+
+    @Test
+    void givenRandomGridAlignedRectangles_whenFindingTheUnion_thenAreaAndBoundaryMatchTheCoveredCells() {
+        // Arrange
+        var random = new Random(21);
+        for (int trial = 0; trial < 300; trial++) {
+            var edges = new RectangleBuffer(16);
+            var covered = new boolean[GRID][GRID];
+            int count = 1 + random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                int x = random.nextInt(GRID - 1);
+                int bottom = random.nextInt(GRID - 1);
+                int width = 1 + random.nextInt(GRID - 1 - x);
+                int height = 1 + random.nextInt(GRID - 1 - bottom);
+                edges.add(x, bottom + height, width, height);
+                for (int cx = x; cx < x + width; cx++)
+                    for (int cy = bottom; cy < bottom + height; cy++)
+                        covered[cx][cy] = true;
+            }
+            // Act
+            var area = Coverage.unionArea(edges);
+            var boundary = Coverage.unionBoundary(edges);
+            // Assert
+            assertEquals(coveredCells(covered), area);
+            var onBoundary = new int[2][GRID + 1][GRID + 1];
+            for (var segment : boundary) {
+                int axis = segment.axis() == X ? 0 : 1;
+                for (int unit = (int) segment.bounds().lower(); unit < segment.bounds().upper(); unit++)
+                    onBoundary[axis][(int) segment.constant()][unit]++;
+            }
+            for (int constant = 0; constant <= GRID; constant++) {
+                for (int unit = 0; unit < GRID; unit++) {
+                    boolean vertical = isCovered(covered, constant - 1, unit) != isCovered(covered, constant, unit);
+                    boolean horizontal = isCovered(covered, unit, constant - 1) != isCovered(covered, unit, constant);
+                    assertEquals(vertical ? 1 : 0, onBoundary[0][constant][unit]);
+                    assertEquals(horizontal ? 1 : 0, onBoundary[1][constant][unit]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenNoRectangles_whenFindingTheUnion_thenItIsEmpty() {
+        // Act
+        var area = Coverage.unionArea(new RectangleBuffer(1));
+        var boundary = Coverage.unionBoundary(new RectangleBuffer(1));
+        // Assert
+        assertEquals(0.0, area);
+        assertEquals(0, boundary.length);
+    }
+
+    private static LineSegment segment(LineSegment.OrthogonalAxis axis, double constant, double lower, double upper) {
+        return new LineSegment(axis, constant, new LineSegment.ParallelAxisBounds(lower, upper));
+    }
+
+    private static double coveredCells(boolean[][] covered) {
+        int cells = 0;
+        for (var column : covered)
+            for (var cell : column)
+                if (cell) cells++;
+        return cells;
+    }
+
+    private static boolean isCovered(boolean[][] covered, int x, int y) {
+        return x >= 0 && y >= 0 && x < GRID && y < GRID && covered[x][y];
+    }
+}
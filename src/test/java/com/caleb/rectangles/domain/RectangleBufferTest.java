@@ -0,0 +1,89 @@
+package com.caleb.rectangles.domain;
+
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RectangleBufferTest {
+
+    @Test
+    void givenManyRectangles_whenAddingThemToABuffer_thenEachCanBeReadBackByIndex() {
+        // Arrange
+        var buffer = new RectangleBuffer(1);
+        // Act
+        for (int i = 0; i < 100; i++) {
+            var index = buffer.add(i, -i, i + 1.0, i + 2.0);
+            assertEquals(i, index);
+        }
+        // Assert
+        assertEquals(100, buffer.size());
+        assertEquals(new Rectangle(new Vector2(42.0, -42.0), new Size(43.0, 44.0)), buffer.get(42));
+        assertEquals(85.0, buffer.right(42));
+        assertEquals(-86.0, buffer.bottom(42));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "-1.0, 1.0, 'width'",
+            "0.0, 1.0, 'width'",
+            "1.0, -1.0, 'height'",
+            "1.0, 0.0, 'height'"
+    })
+    void givenInvalidWidthOrHeight_whenAddingToABuffer_thenInvalidRectangleExceptionIsThrownAndNothingIsAdded(
+            double width, double height, String fieldName
+    ) {
+        // Arrange
+        var buffer = new RectangleBuffer();
+        // Act / Assert
+        var exception = assertThrows(
+                InvalidRectangleException.class,
+                () -> buffer.add(0.0, 0.0, width, height)
+        );
+        assertEquals(1, exception.invariantViolations().size());
+        assertArrayEquals(
+                new String[] { String.format("The %s must be greater than zero", fieldName) },
+                exception.invariantViolations().get("size." + fieldName)
+        );
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void givenAnIndexOutsideTheBuffer_whenReadingIt_thenIndexOutOfBoundsExceptionIsThrown() {
+        // Arrange
+        var buffer = RectangleBuffer.of(new Rectangle(new Vector2(0.0, 0.0), new Size(1.0, 1.0)));
+        // Act / Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.x(1));
+    }
+
+    @Test
+    void givenRandomGridAlignedRectangles_whenRunningKernels_thenTheyMatchTheRectangleAndFinders() {
+        // Arrange
+        var random = new Random(7);
+        var rectangles = new Rectangle[120];
+        for (int i = 0; i < rectangles.length; i++) {
+            rectangles[i] = new Rectangle(
+                    new Vector2(random.nextInt(12), random.nextInt(12)),
+                    new Size(1 + random.nextInt(5), 1 + random.nextInt(5))
+            );
+        }
+        var buffer = RectangleBuffer.of(rectangles);
+        var intersectionFinder = new IntersectionFinder();
+        var adjacencyFinder = new AdjacencyFinder();
+        // Act / Assert
+        for (int i = 0; i < rectangles.length; i++) {
+            for (int j = 0; j < rectangles.length; j++) {
+                assertEquals(rectangles[i].contains(rectangles[j]), buffer.contains(i, j));
+                assertEquals(intersectionFinder.findAll(rectangles[i], rectangles[j]).length > 0,
+                        buffer.intersects(i, j));
+                assertEquals(adjacencyFinder.findAll(rectangles[i], rectangles[j]).length > 0,
+                        buffer.isAdjacent(i, j));
+            }
+        }
+    }
+}
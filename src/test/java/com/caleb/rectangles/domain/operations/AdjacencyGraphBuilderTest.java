@@ -0,0 +1,84 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdjacencyGraphBuilderTest {
+
+    private final AdjacencyFinder adjacencyFinder = new AdjacencyFinder();
+    private final AdjacencyGraphBuilder adjacencyGraphBuilder = new AdjacencyGraphBuilder();
+
+    @Test
+    void givenARowOfTouchingRectangles_whenBuildingTheGraph_thenNeighborsAreLinkedAndCornersAreNot() {
+        // Arrange
+        var rectangles = new Rectangle[] {
+                new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(2.0, 2.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(4.0, 3.0), new Size(2.0, 4.0)),
+                new Rectangle(new Vector2(6.0, 5.0), new Size(2.0, 2.0))
+        };
+        // Act
+        var graph = adjacencyGraphBuilder.build(rectangles);
+        // Assert
+        assertEquals(2, graph.pairs().length);
+        assertEquals(Adjacency.Types.Proper, graph.pairs()[0].adjacencies()[0].type());
+        assertEquals(Adjacency.Types.Partial, graph.pairs()[1].adjacencies()[0].type());
+        assertArrayEquals(new int[] { 0, 2 }, graph.neighbors(1));
+        assertEquals(0, graph.degree(3));
+    }
+
+    @Test
+    void givenNoRectangles_whenBuildingTheGraph_thenTheGraphIsEmpty() {
+        // Act
+        var graph = adjacencyGraphBuilder.build();
+        // Assert
+        assertEquals(0, graph.size());
+        assertEquals(0, graph.pairs().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3 })
+    void givenRandomGridAlignedRectangles_whenBuildingTheGraph_thenPairsMatchThePairwiseFinder(int seed) {
+        // Arrange
+        var random = new Random(seed);
+        var rectangles = new Rectangle[300];
+        for (int i = 0; i < rectangles.length; i++) {
+            rectangles[i] = new Rectangle(
+                    new Vector2(random.nextInt(60), random.nextInt(60)),
+                    new Size(1 + random.nextInt(6), 1 + random.nextInt(6))
+            );
+        }
+        var expectedPairs = findAllPairwise(rectangles);
+        // Act
+        var graph = adjacencyGraphBuilder.build(rectangles);
+        // Assert
+        assertEquals(expectedPairs.size(), graph.pairs().length);
+        for (int i = 0; i < expectedPairs.size(); i++) {
+            var expected = expectedPairs.get(i);
+            var actual = graph.pairs()[i];
+            assertEquals(expected.first(), actual.first());
+            assertEquals(expected.second(), actual.second());
+            assertArrayEquals(expected.adjacencies(), actual.adjacencies());
+        }
+    }
+
+    private ArrayList<AdjacentPair> findAllPairwise(Rectangle[] rectangles) {
+        var adjacentPairs = new ArrayList<AdjacentPair>();
+        for (int i = 0; i < rectangles.length; i++) {
+            for (int j = i + 1; j < rectangles.length; j++) {
+                var adjacencies = adjacencyFinder.findAll(rectangles[i], rectangles[j]);
+                if (adjacencies.length > 0) adjacentPairs.add(new AdjacentPair(i, j, adjacencies));
+            }
+        }
+        return adjacentPairs;
+    }
+}
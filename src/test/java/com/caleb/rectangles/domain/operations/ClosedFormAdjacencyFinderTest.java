@@ -0,0 +1,90 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClosedFormAdjacencyFinderTest {
+
+    private final AdjacencyFinder adjacencyFinder = new AdjacencyFinder();
+    private final ClosedFormAdjacencyFinder closedFormAdjacencyFinder = new ClosedFormAdjacencyFinder();
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0, 2.0, 3.0, 4.0,    1.0, 1.0, 1.0, 1.0",
+            "0.0, 2.0, 3.0, 4.0,    3.0, 2.0, 1.0, 4.0",
+            "0.0, 2.0, 3.0, 4.0,    3.0, 0.0, 2.0, 3.0",
+            "0.0, 2.0, 3.0, 4.0,    3.0, 2.0, 1.0, 2.0",
+            "0.0, 2.0, 3.0, 4.0,    0.0, 1.0, 3.0, 2.0",
+            "0.0, 2.0, 3.0, 4.0,    0.0, 3.0, 3.0, 2.0",
+            "0.0, 2.0, 3.0, 4.0,    0.0, 2.0, 3.0, 2.0",
+            "0.0, 2.0, 3.0, 4.0,    0.0, 2.0, 3.0, 4.0",
+            "0.0, 2.0, 3.0, 4.0,    3.0, 4.0, 1.0, 2.0",
+            "-0.0, 2.0, 3.0, 4.0,   0.0, 2.0, 3.0, 4.0",
+            "-1.0, -0.0, 1.0, 1.0,  -1.0, 1.0, 1.0, 1.0"
+    })
+    void givenTwoRectangles_whenFindingAdjacency_thenResultsMatchTheSegmentLoop(
+            double x1, double y1, double w1, double h1,
+            double x2, double y2, double w2, double h2
+    ) {
+        // Arrange
+        var rect1 = new Rectangle(new Vector2(x1, y1), new Size(w1, h1));
+        var rect2 = new Rectangle(new Vector2(x2, y2), new Size(w2, h2));
+        // Act / Assert
+        assertSameAdjacencyInBothDirections(rect1, rect2);
+    }
+
+    @Test
+    void givenRandomGridAlignedRectangles_whenFindingAdjacency_thenResultsMatchTheSegmentLoop() {
+        // Arrange
+        var random = new Random(5);
+        for (int i = 0; i < 5000; i++) {
+            var rect1 = new Rectangle(
+                    new Vector2(random.nextInt(6), random.nextInt(6)),
+                    new Size(1 + random.nextInt(4), 1 + random.nextInt(4))
+            );
+            var rect2 = new Rectangle(
+                    new Vector2(random.nextInt(6), random.nextInt(6)),
+                    new Size(1 + random.nextInt(4), 1 + random.nextInt(4))
+            );
+            // Act / Assert
+            assertSameAdjacencyInBothDirections(rect1, rect2);
+        }
+    }
+
+    @Test
+    void givenOneBuffer_whenFindingAdjacencyRepeatedly_thenOnlyTheLatestResultsAreKept() {
+        // Arrange
+        var adjacencyBuffer = new AdjacencyBuffer();
+        ClosedFormAdjacencyFinder.findAll(
+                0.0, 3.0, 2.0, -2.0,
+                0.0, 3.0, 2.0, -2.0,
+                adjacencyBuffer
+        );
+        // Act
+        var count = ClosedFormAdjacencyFinder.findAll(
+                0.0, 3.0, 2.0, -2.0,
+                3.0, 5.0, 0.0, -1.0,
+                adjacencyBuffer
+        );
+        // Assert
+        assertEquals(1, count);
+        assertEquals(Adjacency.Types.SubLine, adjacencyBuffer.type(0));
+        assertEquals(3.0, adjacencyBuffer.constant(0));
+        assertEquals(-1.0, adjacencyBuffer.lower(0));
+        assertEquals(0.0, adjacencyBuffer.upper(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> adjacencyBuffer.type(1));
+    }
+
+    private void assertSameAdjacencyInBothDirections(Rectangle rect1, Rectangle rect2) {
+        assertArrayEquals(adjacencyFinder.findAll(rect1, rect2), closedFormAdjacencyFinder.findAll(rect1, rect2));
+        assertArrayEquals(adjacencyFinder.findAll(rect2, rect1), closedFormAdjacencyFinder.findAll(rect2, rect1));
+    }
+}
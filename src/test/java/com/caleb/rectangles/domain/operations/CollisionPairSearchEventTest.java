@@ -0,0 +1,53 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionPairSearchEventTest {
+
+    @Test
+    void givenAnEnabledRecording_whenEachFinderSearches_thenTheyRecordTheSameCounts() throws IOException {
+        // Arrange
+        var rectangles = new Rectangle[100];
+        for (int i = 0; i < rectangles.length; i++)
+            rectangles[i] = new Rectangle(new Vector2(i, 10.0), new Size(1.5, 1.0));
+        var sequential = new SweepAndPruneCollisionPairFinder(new AdjacencyFinder(), new IntersectionFinder());
+        var parallel = new ParallelCollisionPairFinder(new AdjacencyFinder(), new IntersectionFinder());
+        var path = Files.createTempFile("rectangles", ".jfr");
+        List<RecordedEvent> events;
+        // Act
+        try (var recording = new Recording()) {
+            recording.enable("com.caleb.rectangles.CollisionPairSearch");
+            recording.start();
+            sequential.findAll(rectangles);
+            parallel.findAll(rectangles);
+            recording.stop();
+            recording.dump(path);
+            events = RecordingFile.readAllEvents(path);
+        }
+        finally {
+            Files.deleteIfExists(path);
+        }
+        // Assert
+        assertEquals(2, events.size());
+        for (var event : events) {
+            assertEquals(100, event.getInt("rectangles"));
+            assertEquals(99L, event.getLong("candidatePairs"));
+            assertEquals(99, event.getInt("collidingPairs"));
+            assertEquals(1.0 - 99.0 / 4950.0, event.getDouble("pruningRatio"), 1e-12);
+        }
+        assertEquals(List.of("ParallelCollisionPairFinder", "SweepAndPruneCollisionPairFinder"),
+                events.stream().map(event -> event.getString("finder")).sorted().toList());
+    }
+}
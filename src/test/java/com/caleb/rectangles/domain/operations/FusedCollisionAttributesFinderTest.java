@@ -0,0 +1,66 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusedCollisionAttributesFinderTest {
+
+    private final CollisionAttributesFinder collisionAttributesFinder =
+            new CollisionAttributesFinder(new AdjacencyFinder(), new IntersectionFinder());
+    private final FusedCollisionAttributesFinder fusedFinder = new FusedCollisionAttributesFinder();
+
+    @Test
+    void givenRandomGridAlignedRectangles_whenFindingAllAttributes_thenResultsMatchTheSeparateFinders() {
+        // Arrange
+        var random = new Random(19);
+        for (int i = 0; i < 5000; i++) {
+            var rect1 = randomRectangle(random);
+            var rect2 = randomRectangle(random);
+            // Act
+            var expected = collisionAttributesFinder.findAll(rect1, rect2);
+            var actual = fusedFinder.findAll(rect1, rect2);
+            // Assert
+            assertArrayEquals(expected.intersections(), actual.intersections());
+            assertEquals(expected.rect1ContainsRect2(), actual.rect1ContainsRect2());
+            assertEquals(expected.rect2ContainsRect1(), actual.rect2ContainsRect1());
+            assertArrayEquals(expected.adjacencyList(), actual.adjacencyList());
+        }
+    }
+
+    @Test
+    void givenOnlySomeAttributesRequested_whenFindingAttributes_thenTheOthersAreLeftEmpty() {
+        // Arrange
+        var rect = new Rectangle(new Vector2(0.0, 4.0), new Size(4.0, 4.0));
+        var overlapping = new Rectangle(new Vector2(2.0, 4.0), new Size(4.0, 2.0));
+        // Act
+        var attributes = fusedFinder.findAll(rect, overlapping, true, false, false);
+        // Assert
+        assertArrayEquals(new IntersectionFinder().findAll(rect, overlapping), attributes.intersections());
+        assertFalse(attributes.rect1ContainsRect2());
+        assertEquals(0, attributes.adjacencyList().length);
+    }
+
+    @Test
+    void givenDisjointRectangles_whenFindingAllAttributes_thenNothingIsFound() {
+        // Arrange
+        var rect1 = new Rectangle(new Vector2(0.0, 4.0), new Size(4.0, 4.0));
+        var rect2 = new Rectangle(new Vector2(4.5, 4.0), new Size(4.0, 4.0));
+        // Act
+        var attributes = fusedFinder.findAll(rect1, rect2);
+        // Assert
+        assertFalse(attributes.isColliding());
+    }
+
+    private static Rectangle randomRectangle(Random random) {
+        return new Rectangle(
+                new Vector2(random.nextInt(8) - 2, random.nextInt(8) - 2),
+                new Size(1 + random.nextInt(5), 1 + random.nextInt(5))
+        );
+    }
+}
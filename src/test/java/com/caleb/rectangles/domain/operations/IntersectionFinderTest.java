@@ -1,5 +1,6 @@
 package com.caleb.rectangles.domain.operations;
 
+import com.caleb.rectangles.domain.LineSegment;
 import com.caleb.rectangles.domain.Rectangle;
 import com.caleb.rectangles.domain.Size;
 import com.caleb.rectangles.domain.Vector2;
@@ -8,6 +9,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -214,6 +217,67 @@ class IntersectionFinderTest {
         assertContainsExactlyExpectedIntersections(intersectionsBToA, expectedIntersections);
     }
 
+    @Test
+    void givenIdenticalRectangles_whenFindingIntersectionsIntoASink_thenEachCornerIsWrittenOnce() {
+        // Arrange
+        var sink = new double[2 * IntersectionFinder.MAX_INTERSECTIONS];
+        // Act
+        var count = IntersectionFinder.findAll(
+                0.0, 3.0, 2.0, 0.0,
+                0.0, 3.0, 2.0, 0.0,
+                sink
+        );
+        // Assert
+        assertEquals(4, count);
+        assertArrayEquals(
+                new double[] { 3.0, 2.0, 0.0, 2.0, 3.0, 0.0, 0.0, 0.0 },
+                Arrays.copyOf(sink, 2 * count)
+        );
+    }
+
+    @Test
+    void givenASinkThatIsTooSmall_whenFindingIntersectionsIntoIt_thenIllegalArgumentExceptionIsThrown() {
+        // Arrange
+        var sink = new double[2 * IntersectionFinder.MAX_INTERSECTIONS - 1];
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> IntersectionFinder.findAll(
+                0.0, 3.0, 2.0, 0.0,
+                1.0, 2.0, 3.0, -1.0,
+                sink
+        ));
+    }
+
+    @Test
+    void givenRandomGridAlignedRectangles_whenFindingIntersections_thenTheyMatchTheSegmentIntersections() {
+        // Arrange
+        var random = new Random(11);
+        for (int i = 0; i < 2000; i++) {
+            var rectangleA = new Rectangle(
+                    new Vector2(random.nextInt(8), random.nextInt(8)),
+                    new Size(1 + random.nextInt(4), 1 + random.nextInt(4))
+            );
+            var rectangleB = new Rectangle(
+                    new Vector2(random.nextInt(8), random.nextInt(8)),
+                    new Size(1 + random.nextInt(4), 1 + random.nextInt(4))
+            );
+            var expectedIntersections = segmentIntersections(rectangleA, rectangleB);
+            // Act
+            var intersections = intersectionFinder.findAll(rectangleA, rectangleB);
+            // Assert
+            assertContainsExactlyExpectedIntersections(intersections, expectedIntersections);
+        }
+    }
+
+    private static Vector2[] segmentIntersections(Rectangle rectangleA, Rectangle rectangleB) {
+        var intersections = new HashSet<Vector2>();
+        for (LineSegment segmentA : rectangleA.segments()) {
+            for (LineSegment segmentB : rectangleB.segments()) {
+                segmentA.intersectionWith(segmentB).ifPresent(intersections::add);
+            }
+        }
+        return intersections.toArray(new Vector2[0]);
+    }
+
     private void assertContainsExactlyExpectedIntersections(Vector2[] intersectionsToTest, Vector2[] expectedIntersections) {
         assertEquals(expectedIntersections.length, intersectionsToTest.length);
         for (Vector2 expectedIntersection : expectedIntersections) {
@@ -0,0 +1,100 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCollisionPairFinderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final SweepAndPruneCollisionPairFinder sequentialFinder = new SweepAndPruneCollisionPairFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+    private final ParallelCollisionPairFinder parallelFinder = new ParallelCollisionPairFinder(
+            new AdjacencyFinder(), new IntersectionFinder(), pool
+    );
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void givenNoRectangles_whenFindingCollisionPairsInParallel_thenNoPairsAreReturned() {
+        // Act
+        var collisionPairs = parallelFinder.findAll(new Rectangle[0]);
+        // Assert
+        assertEquals(0, collisionPairs.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3 })
+    void givenManyRectanglesSpanningSeveralTiles_whenFindingCollisionPairsInParallel_thenPairsMatchTheSequentialFinder(int seed) {
+        // Arrange
+        var rectangles = randomRectangles(new Random(seed), 6000);
+        var expectedPairs = sequentialFinder.findAll(rectangles);
+        // Act
+        var collisionPairs = parallelFinder.findAll(rectangles);
+        // Assert
+        assertTrue(expectedPairs.length > 0);
+        assertEquals(expectedPairs.length, collisionPairs.length);
+        for (int i = 0; i < collisionPairs.length; i++) {
+            var expected = expectedPairs[i];
+            var actual = collisionPairs[i];
+            assertEquals(expected.first(), actual.first());
+            assertEquals(expected.second(), actual.second());
+            assertArrayEquals(expected.attributes().intersections(), actual.attributes().intersections());
+            assertEquals(expected.attributes().rect1ContainsRect2(), actual.attributes().rect1ContainsRect2());
+            assertEquals(expected.attributes().rect2ContainsRect1(), actual.attributes().rect2ContainsRect1());
+            assertArrayEquals(expected.attributes().adjacencyList(), actual.attributes().adjacencyList());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 50, 299 })
+    void givenTheSweepOrderSplitIntoRanges_whenSweepingEachRange_thenEveryCandidatePairIsReportedExactlyOnce(int split) {
+        // Arrange
+        var random = new Random(split);
+        var edges = new RectangleBuffer(300);
+        for (int i = 0; i < 300; i++) {
+            var x = i % 37 == 0 ? Double.NaN : random.nextInt(40);
+            edges.add(x, random.nextInt(40), 1 + random.nextInt(8), 1 + random.nextInt(8));
+        }
+        var expected = new ArrayList<Long>();
+        SweepAndPrune.forEachCandidatePair(edges, (first, second) -> expected.add(((long) first << 32) | second));
+        // Act
+        var sweepOrder = SweepAndPrune.sweepOrder(edges);
+        var actual = new ArrayList<Long>();
+        for (int from = 0; from < sweepOrder.length; from += split) {
+            int to = Math.min(from + split, sweepOrder.length);
+            SweepAndPrune.forEachCandidatePair(edges, sweepOrder, from, to,
+                    (first, second) -> actual.add(((long) first << 32) | second));
+        }
+        // Assert
+        expected.sort(null);
+        actual.sort(null);
+        assertEquals(expected, actual);
+    }
+
+    private static Rectangle[] randomRectangles(Random random, int count) {
+        var rectangles = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            rectangles[i] = new Rectangle(
+                    new Vector2(random.nextInt(400), random.nextInt(400)),
+                    new Size(1 + random.nextInt(8), 1 + random.nextInt(8))
+            );
+        }
+        return rectangles;
+    }
+}
@@ -0,0 +1,97 @@
+package com.caleb.rectangles.domain.operations;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweepAndPruneCollisionPairFinderTest {
+
+    private final CollisionAttributesFinder collisionAttributesFinder = new CollisionAttributesFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+    private final SweepAndPruneCollisionPairFinder collisionPairFinder = new SweepAndPruneCollisionPairFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+
+    @Test
+    void givenNoRectangles_whenFindingCollisionPairs_thenNoPairsAreReturned() {
+        // Act
+        var collisionPairs = collisionPairFinder.findAll(new Rectangle[0]);
+        // Assert
+        assertEquals(0, collisionPairs.length);
+    }
+
+    @Test
+    void givenRectanglesThatIntersectContainAndTouch_whenFindingCollisionPairs_thenOnlyCollidingPairsAreReturned() {
+        // Arrange
+        var rectangles = new Rectangle[] {
+                new Rectangle(new Vector2(0.0, 4.0), new Size(4.0, 4.0)),
+                new Rectangle(new Vector2(1.0, 3.0), new Size(1.0, 1.0)),
+                new Rectangle(new Vector2(4.0, 4.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(10.0, 10.0), new Size(1.0, 1.0)),
+                new Rectangle(new Vector2(5.0, 3.0), new Size(2.0, 2.0))
+        };
+        // Act
+        var collisionPairs = collisionPairFinder.findAll(rectangles);
+        // Assert
+        assertEquals(3, collisionPairs.length);
+        assertPair(0, 1, collisionPairs[0]);
+        assertTrue(collisionPairs[0].attributes().rect1ContainsRect2());
+        assertPair(0, 2, collisionPairs[1]);
+        assertEquals(1, collisionPairs[1].attributes().adjacencyList().length);
+        assertPair(2, 4, collisionPairs[2]);
+        assertEquals(2, collisionPairs[2].attributes().intersections().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 3 })
+    void givenRandomGridAlignedRectangles_whenFindingCollisionPairs_thenPairsMatchThePairwiseFinders(int seed) {
+        // Arrange
+        var random = new Random(seed);
+        var rectangles = new Rectangle[300];
+        for (int i = 0; i < rectangles.length; i++) {
+            rectangles[i] = new Rectangle(
+                    new Vector2(random.nextInt(60), random.nextInt(60)),
+                    new Size(1 + random.nextInt(6), 1 + random.nextInt(6))
+            );
+        }
+        var expectedPairs = findAllPairwise(rectangles);
+        // Act
+        var collisionPairs = collisionPairFinder.findAll(rectangles);
+        // Assert
+        assertEquals(expectedPairs.size(), collisionPairs.length);
+        for (int i = 0; i < collisionPairs.length; i++) {
+            var expected = expectedPairs.get(i);
+            var actual = collisionPairs[i];
+            assertPair(expected.first(), expected.second(), actual);
+            assertArrayEquals(expected.attributes().intersections(), actual.attributes().intersections());
+            assertEquals(expected.attributes().rect1ContainsRect2(), actual.attributes().rect1ContainsRect2());
+            assertEquals(expected.attributes().rect2ContainsRect1(), actual.attributes().rect2ContainsRect1());
+            assertArrayEquals(expected.attributes().adjacencyList(), actual.attributes().adjacencyList());
+        }
+    }
+
+    private ArrayList<CollisionPair> findAllPairwise(Rectangle[] rectangles) {
+        var collisionPairs = new ArrayList<CollisionPair>();
+        for (int i = 0; i < rectangles.length; i++) {
+            for (int j = i + 1; j < rectangles.length; j++) {
+                var attributes = collisionAttributesFinder.findAll(rectangles[i], rectangles[j]);
+                if (attributes.isColliding()) collisionPairs.add(new CollisionPair(i, j, attributes));
+            }
+        }
+        return collisionPairs;
+    }
+
+    private static void assertPair(int first, int second, CollisionPair collisionPair) {
+        assertEquals(first, collisionPair.first());
+        assertEquals(second, collisionPair.second());
+    }
+}
@@ -2,6 +2,8 @@ package com.caleb.rectangles.domain.rectangle;
 
 import com.caleb.rectangles.domain.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import static org.junit.jupiter.api.Assertions.*;
 
 class RectanglePropertiesTest {
@@ -31,6 +33,42 @@ class RectanglePropertiesTest {
         assertEquals(expectedLeft, segments[Rectangle.LEFT_SEGMENT]);
     }
 
+    @Test
+    void whenGettingARectanglesEdges_thenTheyMatchTheSegmentConstants() {
+        // Act
+        var segments = rectangle.segments();
+        // Assert
+        assertEquals(segments[Rectangle.LEFT_SEGMENT].constant(), rectangle.left());
+        assertEquals(segments[Rectangle.RIGHT_SEGMENT].constant(), rectangle.right());
+        assertEquals(segments[Rectangle.TOP_SEGMENT].constant(), rectangle.top());
+        assertEquals(segments[Rectangle.BOTTOM_SEGMENT].constant(), rectangle.bottom());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0, 0.0, 2.0, 2.0,    1.0, -1.0, 2.0, 2.0,    true",
+            "0.0, 0.0, 2.0, 2.0,    2.0, 0.0, 1.0, 1.0,     true",
+            "0.0, 0.0, 2.0, 2.0,    2.0, 1.0, 1.0, 1.0,     true",
+            "0.0, 0.0, 4.0, 4.0,    1.0, -1.0, 1.0, 1.0,    true",
+            "0.0, 0.0, 2.0, 2.0,    2.5, 0.0, 1.0, 1.0,     false",
+            "0.0, 0.0, 2.0, 2.0,    0.0, 1.5, 1.0, 1.0,     false"
+    })
+    void givenTwoRectangles_whenCheckingOverlaps_thenTrueIsReturnedOnlyIfTheyShareAPoint(
+            double x1, double y1, double w1, double h1,
+            double x2, double y2, double w2, double h2,
+            boolean expectedOverlap
+    ) {
+        // Arrange
+        var rectangle1 = new Rectangle(new Vector2(x1, y1), new Size(w1, h1));
+        var rectangle2 = new Rectangle(new Vector2(x2, y2), new Size(w2, h2));
+        // Act
+        var rect1OverlapsRect2 = rectangle1.overlaps(rectangle2);
+        var rect2OverlapsRect1 = rectangle2.overlaps(rectangle1);
+        // Assert
+        assertEquals(expectedOverlap, rect1OverlapsRect2);
+        assertEquals(expectedOverlap, rect2OverlapsRect1);
+    }
+
     @Test
     void whenCheckingIfARectangleContainsItself_thenTrueIsReturned() {
         // Act
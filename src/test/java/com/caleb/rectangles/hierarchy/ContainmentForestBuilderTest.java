@@ -0,0 +1,115 @@
+package com.caleb.rectangles.hierarchy;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContainmentForestBuilderTest {
+
+    private final ContainmentForestBuilder containmentForestBuilder = new ContainmentForestBuilder();
+
+    @Test
+    void givenNestedRegions_whenBuildingTheForest_thenEachRegionHangsUnderItsTightestContainer() {
+        // Arrange
+        var rectangles = new Rectangle[] {
+                new Rectangle(new Vector2(2.0, 8.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(0.0, 10.0), new Size(10.0, 10.0)),
+                new Rectangle(new Vector2(1.0, 9.0), new Size(5.0, 5.0)),
+                new Rectangle(new Vector2(20.0, 10.0), new Size(1.0, 1.0)),
+                new Rectangle(new Vector2(7.0, 3.0), new Size(3.0, 3.0))
+        };
+        // Act
+        var forest = containmentForestBuilder.build(rectangles);
+        // Assert
+        assertArrayEquals(new int[] { 2, ContainmentForest.NO_PARENT, 1, ContainmentForest.NO_PARENT, 1 }, forest.parents());
+        assertArrayEquals(new int[] { 1, 3 }, forest.roots());
+        assertArrayEquals(new int[] { 2, 4 }, forest.children(1));
+        assertEquals(2, forest.depth(0));
+    }
+
+    @Test
+    void givenIdenticalRectangles_whenBuildingTheForest_thenTheyNestInIndexOrder() {
+        // Arrange
+        var rectangle = new Rectangle(new Vector2(0.0, 4.0), new Size(4.0, 4.0));
+        var rectangles = new Rectangle[] { rectangle, rectangle, rectangle };
+        // Act
+        var forest = containmentForestBuilder.build(rectangles);
+        // Assert
+        assertArrayEquals(new int[] { ContainmentForest.NO_PARENT, 0, 1 }, forest.parents());
+    }
+
+    @Test
+    void givenAWiderRectangleWhoseRightEdgeRoundsInsideAnother_whenBuildingTheForest_thenItHangsUnderTheOther() {
+        // Arrange
+        var container = new Rectangle(new Vector2(1e16, 10.0), new Size(2.0, 10.0));
+        var contained = new Rectangle(new Vector2(1e16, 9.5), new Size(2.5, 9.0));
+        // Act
+        var forest = containmentForestBuilder.build(new Rectangle[] { contained, container });
+        // Assert
+        assertTrue(container.contains(contained));
+        assertFalse(contained.contains(container));
+        assertArrayEquals(new int[] { 1, ContainmentForest.NO_PARENT }, forest.parents());
+    }
+
+    @Test
+    void givenRectangleEdges_whenBuildingTheForest_thenTheForestMatchesTheOneBuiltFromTheRectangles() {
+        // Arrange
+        var rectangles = new Rectangle[] {
+                new Rectangle(new Vector2(2.0, 8.0), new Size(2.0, 2.0)),
+                new Rectangle(new Vector2(0.0, 10.0), new Size(10.0, 10.0)),
+                new Rectangle(new Vector2(1.0, 9.0), new Size(5.0, 5.0)),
+                new Rectangle(new Vector2(0.0, 10.0), new Size(10.0, 10.0))
+        };
+        // Act
+        var forest = containmentForestBuilder.build(RectangleBuffer.of(rectangles));
+        // Assert
+        assertArrayEquals(containmentForestBuilder.build(rectangles).parents(), forest.parents());
+        assertArrayEquals(new int[] { 2, ContainmentForest.NO_PARENT, 3, 1 }, forest.parents());
+    }
+
+    @Test
+    void givenRandomRectanglesWithDuplicates_whenBuildingTheForest_thenParentsMatchThePairwiseSmallestContainer() {
+        // Arrange
+        var random = new Random(24);
+        var rectangles = new Rectangle[300];
+        for (int i = 0; i < rectangles.length; i++) {
+            rectangles[i] = i % 10 == 9
+                    ? rectangles[random.nextInt(i)]
+                    : new Rectangle(
+                            new Vector2(40.0 * random.nextDouble(), 40.0 * random.nextDouble()),
+                            new Size(1.0 + 15.0 * random.nextDouble(), 1.0 + 15.0 * random.nextDouble())
+                    );
+        }
+        // Act
+        var forest = containmentForestBuilder.build(rectangles);
+        // Assert
+        for (int i = 0; i < rectangles.length; i++) {
+            assertEquals(findSmallestContainerPairwise(rectangles, i), forest.parent(i));
+        }
+    }
+
+    /**
+     * Smallest area wins and the higher index breaks ties. Identical rectangles nest in index order, so an
+     * identical rectangle after the one looked up is not one of its containers.
+     */
+    private static int findSmallestContainerPairwise(Rectangle[] rectangles, int i) {
+        int smallest = ContainmentForest.NO_PARENT;
+        for (int j = 0; j < rectangles.length; j++) {
+            if (j == i || !rectangles[j].contains(rectangles[i])) continue;
+            if (rectangles[j].equals(rectangles[i]) && j > i) continue;
+            if (smallest == ContainmentForest.NO_PARENT || area(rectangles[j]) <= area(rectangles[smallest]))
+                smallest = j;
+        }
+        return smallest;
+    }
+
+    private static double area(Rectangle rectangle) {
+        return rectangle.size().width() * rectangle.size().height();
+    }
+}
@@ -0,0 +1,115 @@
+package com.caleb.rectangles.index;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.CollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RTreeTest {
+
+    private final CollisionAttributesFinder collisionAttributesFinder = new CollisionAttributesFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+
+    @Test
+    void givenAnEmptyTree_whenFindingCollisions_thenNoneAreReturned() {
+        // Arrange
+        var tree = new RTree(new Rectangle[0], new AdjacencyFinder(), new IntersectionFinder());
+        // Act
+        var collisions = tree.findCollisions(new Rectangle(new Vector2(0.0, 0.0), new Size(1.0, 1.0)));
+        // Assert
+        assertEquals(0, collisions.length);
+        assertEquals(0, tree.height());
+    }
+
+    @Test
+    void givenAProbeThatTouchesAndContainsStoredRectangles_whenFindingCollisions_thenAttributesAreFromTheProbesPointOfView() {
+        // Arrange
+        var tree = new RTree(new Rectangle[] {
+                new Rectangle(new Vector2(1.0, -1.0), new Size(1.0, 1.0)),
+                new Rectangle(new Vector2(10.0, 10.0), new Size(1.0, 1.0)),
+                new Rectangle(new Vector2(4.0, 0.0), new Size(2.0, 4.0))
+        }, new AdjacencyFinder(), new IntersectionFinder());
+        var probe = new Rectangle(new Vector2(0.0, 0.0), new Size(4.0, 4.0));
+        // Act
+        var collisions = tree.findCollisions(probe);
+        // Assert
+        assertEquals(2, collisions.length);
+        assertEquals(0, collisions[0].index());
+        assertTrue(collisions[0].attributes().rect1ContainsRect2());
+        assertFalse(collisions[0].attributes().rect2ContainsRect1());
+        assertEquals(2, collisions[1].index());
+        assertEquals(1, collisions[1].attributes().adjacencyList().length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 2, 4, 16 })
+    void givenRandomRectangles_whenQueryingTheTree_thenResultsMatchALinearScan(int nodeCapacity) {
+        // Arrange
+        var random = new Random(nodeCapacity);
+        var rectangles = randomRectangles(random, 2000);
+        var tree = new RTree(rectangles, nodeCapacity, collisionAttributesFinder);
+        for (int i = 0; i < 200; i++) {
+            var probe = randomRectangles(random, 1)[0];
+            // Act
+            var collisions = tree.findCollisions(probe);
+            var containing = new ArrayList<Integer>();
+            tree.forEachContaining(probe.left(), probe.right(), probe.top(), probe.bottom(), containing::add);
+            // Assert
+            var expectedCollisions = new ArrayList<Integer>();
+            var expectedContaining = new ArrayList<Integer>();
+            for (int j = 0; j < rectangles.length; j++) {
+                if (collisionAttributesFinder.findAll(probe, rectangles[j]).isColliding()) expectedCollisions.add(j);
+                if (rectangles[j].contains(probe)) expectedContaining.add(j);
+            }
+            assertEquals(expectedCollisions.size(), collisions.length);
+            for (int j = 0; j < collisions.length; j++) {
+                assertEquals(expectedCollisions.get(j).intValue(), collisions[j].index());
+            }
+            containing.sort(Integer::compare);
+            assertEquals(expectedContaining, containing);
+        }
+    }
+
+    @Test
+    void givenATreeBuiltFromEdges_whenSearching_thenContainersAreFoundAndCollisionsAreRejected() {
+        // Arrange
+        var rectangles = randomRectangles(new Random(7), 500);
+        var tree = new RTree(RectangleBuffer.of(rectangles), 4);
+        var probe = new Rectangle(new Vector2(100.0, 100.0), new Size(1.0, 1.0));
+        // Act
+        var containing = new ArrayList<Integer>();
+        tree.forEachContaining(probe.left(), probe.right(), probe.top(), probe.bottom(), containing::add);
+        // Assert
+        var expectedContaining = new ArrayList<Integer>();
+        for (int j = 0; j < rectangles.length; j++) {
+            if (rectangles[j].contains(probe)) expectedContaining.add(j);
+        }
+        containing.sort(Integer::compare);
+        assertEquals(expectedContaining, containing);
+        assertEquals(rectangles.length, tree.size());
+        assertThrows(IllegalStateException.class, () -> tree.findCollisions(probe));
+    }
+
+    private static Rectangle[] randomRectangles(Random random, int count) {
+        var rectangles = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            rectangles[i] = new Rectangle(
+                    new Vector2(random.nextInt(200), random.nextInt(200)),
+                    new Size(1 + random.nextInt(random.nextBoolean() ? 5 : 60), 1 + random.nextInt(10))
+            );
+        }
+        return rectangles;
+    }
+}
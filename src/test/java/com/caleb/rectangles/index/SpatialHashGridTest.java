@@ -0,0 +1,110 @@
+package com.caleb.rectangles.index;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.Adjacency;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.CollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashGridTest {
+
+    private final CollisionAttributesFinder collisionAttributesFinder = new CollisionAttributesFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+
+    @Test
+    void givenRectanglesThatTouchExactlyOnACellBoundary_whenFindingCollisions_thenTheAdjacencyIsFound() {
+        // Arrange
+        var grid = new SpatialHashGrid(2.0, new AdjacencyFinder(), new IntersectionFinder());
+        grid.insert(1, new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)));
+        grid.insert(2, new Rectangle(new Vector2(2.0, 2.0), new Size(2.0, 2.0)));
+        grid.insert(3, new Rectangle(new Vector2(4.0, 4.0), new Size(2.0, 2.0)));
+        // Act
+        var collisions = grid.findCollisions(2);
+        // Assert
+        assertEquals(2, collisions.length);
+        assertEquals(1, collisions[0].index());
+        assertEquals(1, collisions[0].attributes().adjacencyList().length);
+        assertEquals(Adjacency.Types.Proper, collisions[0].attributes().adjacencyList()[0].type());
+        assertEquals(3, collisions[1].index());
+        assertEquals(1, collisions[1].attributes().intersections().length);
+    }
+
+    @Test
+    void givenARectangleThatWasMovedAway_whenFindingCollisionsAtItsOldPosition_thenItIsNotFound() {
+        // Arrange
+        var grid = new SpatialHashGrid(1.0, new AdjacencyFinder(), new IntersectionFinder());
+        var probe = new Rectangle(new Vector2(0.0, 1.0), new Size(1.0, 1.0));
+        grid.insert(7, new Rectangle(new Vector2(0.5, 0.5), new Size(1.0, 1.0)));
+        // Act
+        grid.move(7, new Rectangle(new Vector2(10.5, 10.5), new Size(1.0, 1.0)));
+        // Assert
+        assertEquals(0, grid.findCollisions(probe).length);
+        assertEquals(1, grid.findCollisions(new Rectangle(new Vector2(10.0, 10.0), new Size(1.0, 1.0))).length);
+    }
+
+    @Test
+    void givenAnIdThatIsAlreadyInUse_whenInserting_thenIllegalArgumentExceptionIsThrown() {
+        // Arrange
+        var grid = new SpatialHashGrid(1.0, new AdjacencyFinder(), new IntersectionFinder());
+        var rectangle = new Rectangle(new Vector2(0.0, 0.0), new Size(1.0, 1.0));
+        grid.insert(1, rectangle);
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> grid.insert(1, rectangle));
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void givenRandomInsertsMovesAndRemoves_whenFindingCollisions_thenResultsMatchALinearScan() {
+        // Arrange
+        var random = new Random(3);
+        var grid = new SpatialHashGrid(4.0, collisionAttributesFinder);
+        var expectedRectangles = new HashMap<Integer, Rectangle>();
+        for (int step = 0; step < 3000; step++) {
+            int id = random.nextInt(300);
+            var rectangle = randomRectangle(random);
+            // Act
+            if (!expectedRectangles.containsKey(id)) {
+                grid.insert(id, rectangle);
+                expectedRectangles.put(id, rectangle);
+            }
+            else if (random.nextInt(4) == 0) {
+                assertTrue(grid.remove(id));
+                expectedRectangles.remove(id);
+            }
+            else {
+                grid.move(id, rectangle);
+                expectedRectangles.put(id, rectangle);
+            }
+            // Assert
+            var probe = randomRectangle(random);
+            var expectedIds = new ArrayList<Integer>();
+            expectedRectangles.forEach((expectedId, expectedRectangle) -> {
+                if (collisionAttributesFinder.findAll(probe, expectedRectangle).isColliding()) expectedIds.add(expectedId);
+            });
+            expectedIds.sort(Integer::compare);
+            var collisions = grid.findCollisions(probe);
+            assertEquals(expectedIds.size(), collisions.length);
+            for (int i = 0; i < collisions.length; i++) {
+                assertEquals(expectedIds.get(i).intValue(), collisions[i].index());
+            }
+        }
+        assertEquals(expectedRectangles.size(), grid.size());
+    }
+
+    private static Rectangle randomRectangle(Random random) {
+        return new Rectangle(
+                new Vector2(random.nextInt(80) - 40, random.nextInt(80) - 40),
+                new Size(1 + random.nextInt(10), 1 + random.nextInt(10))
+        );
+    }
+}
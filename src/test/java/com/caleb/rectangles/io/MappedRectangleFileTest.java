@@ -0,0 +1,119 @@
+package com.caleb.rectangles.io;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.SweepAndPrune;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRectangleFileTest {
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("rectangles", ".rect");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void givenWrittenRectangles_whenMappingTheFile_thenEachRecordReadsBackExactly() throws IOException {
+        // Arrange
+        var random = new Random(9);
+        var buffer = new RectangleBuffer(16);
+        for (int i = 0; i < 5000; i++) {
+            buffer.add(random.nextGaussian() * 100.0, random.nextGaussian() * 100.0,
+                    random.nextDouble() * 10.0 + 0.1, random.nextDouble() * 10.0 + 0.1);
+        }
+        var single = new Rectangle(new Vector2(-0.0, 1e300), new Size(Double.MIN_VALUE, 0.1));
+        // Act
+        try (var writer = new RectangleFileWriter(path)) {
+            writer.writeAll(buffer);
+            writer.write(single);
+        }
+        // Assert
+        try (var file = MappedRectangleFile.open(path)) {
+            assertEquals(5001, file.size());
+            for (int i = 0; i < buffer.size(); i++) {
+                assertEquals(buffer.get(i), file.get(i));
+                assertEquals(buffer.right(i), file.right(i));
+                assertEquals(buffer.bottom(i), file.bottom(i));
+            }
+            assertEquals(single, file.get(5000));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.x(5001));
+        }
+    }
+
+    @Test
+    void givenAMappedFile_whenSweeping_thenTheCandidatePairsMatchTheInMemoryBuffer() throws IOException {
+        // Arrange
+        var random = new Random(10);
+        var buffer = new RectangleBuffer(16);
+        for (int i = 0; i < 500; i++) {
+            buffer.add(random.nextInt(50), random.nextInt(50), random.nextInt(5) + 1, random.nextInt(5) + 1);
+        }
+        try (var writer = new RectangleFileWriter(path)) {
+            writer.writeAll(buffer);
+        }
+        var expected = new ArrayList<Long>();
+        SweepAndPrune.forEachCandidatePair(buffer, (first, second) -> expected.add(((long) first << 32) | second));
+        // Act
+        var actual = new ArrayList<Long>();
+        try (var file = MappedRectangleFile.open(path)) {
+            SweepAndPrune.forEachCandidatePair(file, (first, second) -> actual.add(((long) first << 32) | second));
+        }
+        // Assert
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void givenAnEmptyWriter_whenMappingTheFile_thenItHasNoRecords() throws IOException {
+        // Arrange
+        new RectangleFileWriter(path).close();
+        // Act
+        try (var file = MappedRectangleFile.open(path)) {
+            // Assert
+            assertEquals(0, file.size());
+        }
+    }
+
+    @Test
+    void givenAFileWithoutTheMagicNumber_whenMapping_thenRectangleFileFormatExceptionIsThrown() throws IOException {
+        // Arrange
+        Files.write(path, new byte[64]);
+        // Act & Assert
+        var err = assertThrows(RectangleFileFormatException.class, () -> MappedRectangleFile.open(path));
+        assertEquals("The file is not a rectangle file", err.getMessage());
+    }
+
+    @Test
+    void givenATruncatedFile_whenMapping_thenRectangleFileFormatExceptionIsThrown() throws IOException {
+        // Arrange
+        try (var writer = new RectangleFileWriter(path)) {
+            writer.write(new Rectangle(new Vector2(0.0, 0.0), new Size(1.0, 1.0)));
+            writer.write(new Rectangle(new Vector2(1.0, 1.0), new Size(1.0, 1.0)));
+        }
+        var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+        // Act & Assert
+        var err = assertThrows(RectangleFileFormatException.class, () -> MappedRectangleFile.open(path));
+        assertEquals("The file is shorter than its 2 records", err.getMessage());
+    }
+}
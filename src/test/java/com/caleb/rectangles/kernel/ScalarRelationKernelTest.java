@@ -0,0 +1,54 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.RectangleBuffer;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalarRelationKernelTest {
+
+    @Test
+    void givenRandomRectangles_whenRelatingToAProbe_thenEveryBitAgreesWithTheRectangleOperations() {
+        // Arrange
+        var random = new Random(16);
+        var buffer = new RectangleBuffer(16);
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(Math.floor(random.nextDouble() * 20.0), Math.floor(random.nextDouble() * 20.0),
+                    Math.floor(random.nextDouble() * 6.0) + 1.0, Math.floor(random.nextDouble() * 6.0) + 1.0);
+        }
+        var columns = EdgeColumns.of(buffer);
+        var probe = new Rectangle(new Vector2(5.0, 15.0), new Size(8.0, 7.0));
+        var masks = new RelationMasks(columns.size());
+        // Act
+        new ScalarRelationKernel().relate(columns, probe, masks);
+        // Assert
+        for (int i = 0; i < buffer.size(); i++) {
+            var rectangle = buffer.get(i);
+            boolean closedOverlap = Rectangle.overlaps(probe.left(), probe.right(), probe.top(), probe.bottom(),
+                    rectangle.left(), rectangle.right(), rectangle.top(), rectangle.bottom());
+            boolean strictOverlap = rectangle.left() < probe.right() && probe.left() < rectangle.right() &&
+                    rectangle.bottom() < probe.top() && probe.bottom() < rectangle.top();
+            assertEquals(probe.contains(rectangle), masks.contains(i));
+            assertEquals(strictOverlap, masks.overlaps(i));
+            assertEquals(closedOverlap && !strictOverlap, masks.touches(i));
+        }
+    }
+
+    @Test
+    void givenMasksSmallerThanTheColumns_whenRelating_thenIllegalArgumentExceptionIsThrown() {
+        // Arrange
+        var buffer = new RectangleBuffer(100);
+        for (int i = 0; i < 100; i++)
+            buffer.add(i, 0.0, 1.0, 1.0);
+        var columns = EdgeColumns.of(buffer);
+        var probe = new Rectangle(new Vector2(0.0, 0.0), new Size(1.0, 1.0));
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScalarRelationKernel().relate(columns, probe, new RelationMasks(64)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.caleb.rectangles.kinetic;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.CollisionAttributesFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KineticBroadPhaseTest {
+
+    private final CollisionAttributesFinder collisionAttributesFinder = new CollisionAttributesFinder(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+    private final KineticBroadPhase kineticBroadPhase = new KineticBroadPhase(collisionAttributesFinder);
+
+    @Test
+    void givenARectangleSlidingIntoAndPastAnother_whenStepping_thenContactBeginsOnceAndEndsOnce() {
+        // Arrange
+        int still = kineticBroadPhase.add(new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)));
+        int moving = kineticBroadPhase.add(new Rectangle(new Vector2(5.0, 2.0), new Size(2.0, 2.0)));
+        kineticBroadPhase.step();
+        // Act
+        kineticBroadPhase.move(moving, new Rectangle(new Vector2(2.0, 2.0), new Size(2.0, 2.0)));
+        var touching = kineticBroadPhase.step();
+        kineticBroadPhase.move(moving, new Rectangle(new Vector2(1.0, 2.0), new Size(2.0, 2.0)));
+        var overlapping = kineticBroadPhase.step();
+        kineticBroadPhase.move(moving, new Rectangle(new Vector2(-5.0, 2.0), new Size(2.0, 2.0)));
+        var passed = kineticBroadPhase.step();
+        // Assert
+        assertEquals(1, touching.length);
+        assertEquals(ContactEvent.Types.Begin, touching[0].type());
+        assertEquals(still, touching[0].first());
+        assertEquals(moving, touching[0].second());
+        assertEquals(1, touching[0].attributes().adjacencyList().length);
+        assertEquals(0, overlapping.length);
+        assertEquals(1, passed.length);
+        assertEquals(ContactEvent.Types.End, passed[0].type());
+        assertNull(passed[0].attributes());
+        assertEquals(0, kineticBroadPhase.contactCount());
+    }
+
+    @Test
+    void givenTwoRectanglesInContact_whenRemovingOne_thenTheNextStepEndsTheContact() {
+        // Arrange
+        int first = kineticBroadPhase.add(new Rectangle(new Vector2(0.0, 2.0), new Size(2.0, 2.0)));
+        int second = kineticBroadPhase.add(new Rectangle(new Vector2(1.0, 3.0), new Size(2.0, 2.0)));
+        kineticBroadPhase.step();
+        // Act
+        kineticBroadPhase.remove(first);
+        var events = kineticBroadPhase.step();
+        // Assert
+        assertEquals(1, events.length);
+        assertEquals(ContactEvent.Types.End, events[0].type());
+        assertFalse(kineticBroadPhase.isInContact(first, second));
+        assertThrows(IllegalArgumentException.class, () -> kineticBroadPhase.move(first, kineticBroadPhase.rectangle(second)));
+    }
+
+    @Test
+    void givenRandomlyMovingRectangles_whenStepping_thenEventsTrackThePairwiseCollidingPairs() {
+        // Arrange
+        var random = new Random(25);
+        var rectangles = new Rectangle[120];
+        for (int i = 0; i < rectangles.length; i++) {
+            rectangles[i] = randomRectangle(random, random.nextInt(40), random.nextInt(40));
+            kineticBroadPhase.add(rectangles[i]);
+        }
+        var contacts = new HashSet<Long>();
+        for (int frame = 0; frame < 30; frame++) {
+            for (int i = 0; i < rectangles.length; i++) {
+                if (random.nextInt(3) != 0) continue;
+                var topLeft = rectangles[i].topLeft();
+                rectangles[i] = randomRectangle(
+                        random, topLeft.x() + random.nextInt(5) - 2, topLeft.y() + random.nextInt(5) - 2
+                );
+                kineticBroadPhase.move(i, rectangles[i]);
+            }
+            // Act
+            var events = kineticBroadPhase.step();
+            // Assert
+            for (var event : events) {
+                long contact = (long) event.first() << 32 | event.second();
+                if (event.type() == ContactEvent.Types.Begin) {
+                    assertTrue(contacts.add(contact));
+                    assertTrue(event.attributes().isColliding());
+                }
+                else {
+                    assertTrue(contacts.remove(contact));
+                }
+            }
+            for (int i = 0; i < rectangles.length; i++) {
+                for (int j = i + 1; j < rectangles.length; j++) {
+                    boolean isColliding = collisionAttributesFinder.findAll(rectangles[i], rectangles[j]).isColliding();
+                    assertEquals(isColliding, contacts.contains((long) i << 32 | j));
+                    assertEquals(isColliding, kineticBroadPhase.isInContact(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void givenRectanglesAddedAndRemovedEachFrame_whenStepping_thenContactsMatchThePairwiseCollidingPairs() {
+        // Arrange
+        var random = new Random(250);
+        var rectangles = new ArrayList<Rectangle>();
+        var contacts = new HashSet<Long>();
+        for (int frame = 0; frame < 20; frame++) {
+            for (int i = 0; i < 15; i++) {
+                rectangles.add(randomRectangle(random, random.nextInt(30), random.nextInt(30)));
+                kineticBroadPhase.add(rectangles.get(rectangles.size() - 1));
+            }
+            for (int i = 0; i < rectangles.size(); i++) {
+                if (rectangles.get(i) == null) continue;
+                int choice = random.nextInt(4);
+                if (choice == 0) {
+                    rectangles.set(i, null);
+                    kineticBroadPhase.remove(i);
+                }
+                else if (choice == 1) {
+                    rectangles.set(i, randomRectangle(random, random.nextInt(30), random.nextInt(30)));
+                    kineticBroadPhase.move(i, rectangles.get(i));
+                }
+            }
+            // Act
+            var events = kineticBroadPhase.step();
+            // Assert
+            for (var event : events) {
+                long contact = (long) event.first() << 32 | event.second();
+                if (event.type() == ContactEvent.Types.Begin) assertTrue(contacts.add(contact));
+                else assertTrue(contacts.remove(contact));
+            }
+            int expectedContacts = 0;
+            for (int i = 0; i < rectangles.size(); i++) {
+                for (int j = i + 1; j < rectangles.size(); j++) {
+                    boolean isColliding = rectangles.get(i) != null && rectangles.get(j) != null &&
+                            collisionAttributesFinder.findAll(rectangles.get(i), rectangles.get(j)).isColliding();
+                    if (isColliding) expectedContacts++;
+                    assertEquals(isColliding, contacts.contains((long) i << 32 | j));
+                    assertEquals(isColliding, kineticBroadPhase.isInContact(i, j));
+                }
+            }
+            assertEquals(expectedContacts, kineticBroadPhase.contactCount());
+        }
+    }
+
+    private static Rectangle randomRectangle(Random random, double x, double y) {
+        return new Rectangle(new Vector2(x, y), new Size(1 + random.nextInt(4), 1 + random.nextInt(4)));
+    }
+}
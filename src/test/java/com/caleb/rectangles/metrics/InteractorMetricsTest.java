@@ -0,0 +1,92 @@
+package com.caleb.rectangles.metrics;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static com.caleb.rectangles.metrics.InteractorMetrics.Stage;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InteractorMetricsTest {
+
+    private final InteractorMetrics metrics = new InteractorMetrics();
+    private final RectanglesCollisionAttributesInteractor interactor = new RectanglesCollisionAttributesInteractor(
+            new AdjacencyFinder(), new IntersectionFinder(), null, metrics
+    );
+
+    @Test
+    void givenQueriesWithDifferentFlags_whenExecuting_thenOnlyTheQueriedStagesAreRecorded() {
+        // Arrange
+        var rect1 = new Rectangle(new Vector2(0.0, 10.0), new Size(5.0, 5.0));
+        var rect2 = new Rectangle(new Vector2(3.0, 8.0), new Size(5.0, 5.0));
+        // Act
+        interactor.Execute(rect1, rect2, true, false, false);
+        interactor.Execute(rect1, rect2, true, true, true);
+        interactor.Execute(rect1, rect2, true, true, true);
+        // Assert
+        var snapshot = metrics.snapshot();
+        assertEquals(3L, snapshot.queries());
+        assertEquals(0L, snapshot.stage(Stage.PARSE).count());
+        assertEquals(1L, snapshot.stage(Stage.INTERSECTIONS).count());
+        assertEquals(0L, snapshot.stage(Stage.CONTAINMENT).count());
+        assertEquals(0L, snapshot.stage(Stage.ADJACENCY).count());
+        assertEquals(2L, snapshot.stage(Stage.FUSED).count());
+        assertEquals(1L, snapshot.flagCombination(true, false, false));
+        assertEquals(2L, snapshot.flagCombination(true, true, true));
+        assertEquals(0L, snapshot.failedQueries());
+    }
+
+    @Test
+    void givenInvalidQueries_whenExecuting_thenFailuresAreCountedByErrorKey() {
+        // Arrange
+        var invalid = new RectanglesCollisionAttributesQuery(
+                new RectanglesCollisionAttributesQuery.RectangleRawData("0", "10", "-5", "5"),
+                new RectanglesCollisionAttributesQuery.RectangleRawData("3", "8", "5", "5"),
+                true, false, false
+        );
+        var bytes = "0,10,5,5,3,8,5,x".getBytes(StandardCharsets.US_ASCII);
+        int[] fieldBounds = { 0, 1, 2, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+        // Act
+        interactor.Execute(invalid);
+        interactor.Execute(bytes, fieldBounds, false, false, true);
+        // Assert
+        var snapshot = metrics.snapshot();
+        assertEquals(2L, snapshot.queries());
+        assertEquals(2L, snapshot.stage(Stage.PARSE).count());
+        assertEquals(2L, snapshot.failedQueries());
+        assertEquals(1L, (long) snapshot.errorsByKey().get("rectangle1.size.width"));
+        assertEquals(1L, (long) snapshot.errorsByKey().get("rectangle2.size.height"));
+        assertEquals(0L, snapshot.stage(Stage.INTERSECTIONS).count());
+    }
+
+    @Test
+    void givenARegisteredMBean_whenReadingItsAttributes_thenTheyReflectTheRecordedQueries() throws JMException {
+        // Arrange
+        var name = "com.caleb.rectangles:type=InteractorMetrics,name=test";
+        metrics.registerMBean(name);
+        var rect = new Rectangle(new Vector2(0.0, 10.0), new Size(5.0, 5.0));
+        interactor.Execute(rect, rect, false, true, false);
+        var server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            // Act
+            var queries = server.getAttribute(new ObjectName(name), "Queries");
+            var failed = server.getAttribute(new ObjectName(name), "FailedQueries");
+            // Assert
+            assertEquals(1L, queries);
+            assertEquals(0L, failed);
+        }
+        finally {
+            server.unregisterMBean(new ObjectName(name));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.caleb.rectangles.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void givenValuesAcrossTheRange_whenBucketing_thenEachValueIsWithinItsBucketAndWithinOneSixteenth() {
+        // Arrange
+        var random = new Random(17);
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueOf(bucket);
+            assertTrue(bucket >= 0 && bucket < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(value <= highest);
+            assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKETS);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    void givenOneToOneThousand_whenTakingPercentiles_thenTheyMatchWithinBucketPrecision() {
+        // Arrange
+        var histogram = new LatencyHistogram(4);
+        for (long value = 1; value <= 1000; value++)
+            histogram.record(value);
+        // Act
+        var snapshot = histogram.snapshot();
+        // Assert
+        assertEquals(1000L, snapshot.count());
+        assertEquals(500_500L, snapshot.totalNanos());
+        assertEquals(1000L, snapshot.maxNanos());
+        assertEquals(500.5, snapshot.meanNanos());
+        assertTrue(Math.abs(snapshot.percentileNanos(50.0) - 500) <= 500 / 16);
+        assertTrue(Math.abs(snapshot.percentileNanos(99.0) - 990) <= 990 / 16);
+        assertEquals(1000L, snapshot.percentileNanos(100.0));
+        assertEquals(1L, snapshot.percentileNanos(0.0));
+    }
+
+    @Test
+    void givenManyThreadsRecording_whenTakingASnapshot_thenNoValueIsLost() throws InterruptedException {
+        // Arrange
+        var histogram = new LatencyHistogram(2);
+        var threads = new ArrayList<Thread>();
+        // Act
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++)
+                    histogram.record(i % 100);
+            }));
+        }
+        for (var thread : threads)
+            thread.join();
+        // Assert
+        var snapshot = histogram.snapshot();
+        assertEquals(80_000L, snapshot.count());
+        assertEquals(8L * 100 * 4950, snapshot.totalNanos());
+        assertEquals(99L, snapshot.maxNanos());
+    }
+}
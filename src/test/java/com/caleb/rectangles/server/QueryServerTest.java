@@ -0,0 +1,158 @@
+package com.caleb.rectangles.server;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import com.caleb.rectangles.json.JsonReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static com.caleb.rectangles.json.CollisionAttributesJson.QueryFlags;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryServerTest {
+
+    private static final String QUERY =
+            "{\"rectangle1Data\":{\"x\":0,\"y\":10,\"w\":5,\"h\":5},\"rectangle2Data\":{\"x\":3,\"y\":8,\"w\":5,\"h\":5}}";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private QueryServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) server.stop(0);
+    }
+
+    @Test
+    void givenAQuery_whenPostingToTheQueryEndpoint_thenTheResponseMirrorsTheInteractorResponse() throws Exception {
+        // Arrange
+        server = startServer(new IntersectionFinder(), 8, new QueryFlags(true, true, false));
+        // Act
+        var response = post("/query", QUERY);
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals(
+                "{\"success\":true,\"intersections\":[{\"x\":5.0,\"y\":8.0},{\"x\":3.0,\"y\":5.0}]," +
+                "\"containmentInfo\":{\"rect1ContainsRect2\":false,\"rect2ContainsRect1\":false}}",
+                response.body()
+        );
+    }
+
+    @Test
+    void givenSeveralQueries_whenPostingToTheBatchEndpoint_thenOneResultIsReturnedPerQueryInOrder() throws Exception {
+        // Arrange
+        server = startServer(new IntersectionFinder(), 8, new QueryFlags(false, false, false));
+        var body = "[" + QUERY.replace("}}", "},\"queryContainment\":true}") + ",42]";
+        // Act
+        var response = post("/batch", body);
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals(
+                "[{\"success\":true,\"containmentInfo\":{\"rect1ContainsRect2\":false,\"rect2ContainsRect1\":false}}," +
+                "{\"success\":false,\"errors\":{\"input\":[\"Expected a JSON object\"]}}]",
+                response.body()
+        );
+    }
+
+    @Test
+    void givenMalformedJson_whenPosting_thenBadRequestIsReturned() throws Exception {
+        // Arrange
+        server = startServer(new IntersectionFinder(), 8, new QueryFlags(true, false, false));
+        // Act
+        var queryResponse = post("/query", "{\"rectangle1Data\":");
+        var batchResponse = post("/batch", QUERY);
+        // Assert
+        assertEquals(400, queryResponse.statusCode());
+        assertTrue(queryResponse.body().startsWith("{\"success\":false,\"errors\":{\"input\":["));
+        assertEquals(400, batchResponse.statusCode());
+        assertEquals("{\"success\":false,\"errors\":{\"input\":[\"Expected a JSON array\"]}}", batchResponse.body());
+    }
+
+    @Test
+    void givenDeeplyNestedJson_whenPosting_thenBadRequestIsReturned() throws Exception {
+        // Arrange
+        server = startServer(new IntersectionFinder(), 8, new QueryFlags(true, false, false));
+        // Act
+        var response = post("/query", "[".repeat(200_000));
+        // Assert
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Nesting is deeper than " + JsonReader.MAX_DEPTH + " levels"));
+    }
+
+    @Test
+    void givenAGetRequest_whenRequestingAnEndpoint_thenMethodNotAllowedIsReturned() throws Exception {
+        // Arrange
+        server = startServer(new IntersectionFinder(), 8, new QueryFlags(true, false, false));
+        // Act
+        var response = client.send(
+                HttpRequest.newBuilder(uri("/query")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        // Assert
+        assertEquals(405, response.statusCode());
+        assertEquals("POST", response.headers().firstValue("Allow").orElse(""));
+    }
+
+    @Test
+    void givenAllPendingSlotsInUse_whenPosting_thenServiceUnavailableIsReturned() throws Exception {
+        // Arrange
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blockingFinder = new IntersectionFinder() {
+            @Override
+            public Vector2[] findAll(Rectangle rectangleA, Rectangle rectangleB) {
+                entered.countDown();
+                try {
+                    release.await();
+                }
+                catch (InterruptedException err) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findAll(rectangleA, rectangleB);
+            }
+        };
+        server = startServer(blockingFinder, 1, new QueryFlags(true, false, false));
+        CompletableFuture<HttpResponse<String>> blocked = client.sendAsync(request("/query", QUERY), HttpResponse.BodyHandlers.ofString());
+        entered.await();
+        // Act
+        var rejected = post("/query", QUERY);
+        release.countDown();
+        // Assert
+        assertEquals(503, rejected.statusCode());
+        assertEquals("{\"success\":false,\"errors\":{\"server\":[\"Too many pending requests\"]}}", rejected.body());
+        assertEquals(200, blocked.get().statusCode());
+    }
+
+    private QueryServer startServer(IntersectionFinder intersectionFinder, int maxPendingRequests, QueryFlags flags) throws IOException {
+        var interactor = new RectanglesCollisionAttributesInteractor(new AdjacencyFinder(), intersectionFinder);
+        var queryServer = new QueryServer(
+                interactor, flags, new InetSocketAddress("127.0.0.1", 0),
+                maxPendingRequests, QueryServer.DEFAULT_MAX_BODY_BYTES
+        );
+        queryServer.start();
+        return queryServer;
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(request(path, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path, String body) {
+        return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.address().getPort() + path);
+    }
+}
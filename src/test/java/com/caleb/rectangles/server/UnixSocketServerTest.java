@@ -0,0 +1,167 @@
+package com.caleb.rectangles.server;
+
+import com.caleb.rectangles.application.RectanglesCollisionAttributesInteractor;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesQuery;
+import com.caleb.rectangles.application.RectanglesCollisionAttributesResponse;
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import com.caleb.rectangles.domain.operations.AdjacencyFinder;
+import com.caleb.rectangles.domain.operations.IntersectionFinder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static com.caleb.rectangles.application.RectanglesCollisionAttributesQuery.RectangleRawData;
+import static com.caleb.rectangles.server.BinaryProtocol.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Timeout(30)
+class UnixSocketServerTest {
+
+    private final RectanglesCollisionAttributesInteractor interactor = new RectanglesCollisionAttributesInteractor(
+            new AdjacencyFinder(), new IntersectionFinder()
+    );
+    private Path directory;
+    private UnixSocketServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("rectangles");
+        server = new UnixSocketServer(interactor, directory.resolve("rectangles.sock"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    void givenManyPipelinedRequests_whenReadingTheResponses_thenEachMatchesTheStringQueryPathInOrder() throws IOException {
+        // Arrange
+        var random = new Random(13);
+        int count = 5000;
+        var requests = ByteBuffer.allocate(count * (LENGTH_PREFIX_SIZE + REQUEST_PAYLOAD_SIZE)).order(BYTE_ORDER);
+        var expected = new RectanglesCollisionAttributesResponse[count];
+        for (int i = 0; i < count; i++) {
+            var rect1 = randomRectangle(random);
+            var rect2 = randomRectangle(random);
+            int flags = 1 + random.nextInt(FLAG_MASK);
+            writeRequest(requests, flags, rect1, rect2);
+            expected[i] = interactor.Execute(new RectanglesCollisionAttributesQuery(
+                    rawData(rect1), rawData(rect2),
+                    (flags & FLAG_INTERSECTIONS) != 0, (flags & FLAG_CONTAINMENT) != 0, (flags & FLAG_ADJACENCY) != 0
+            ));
+        }
+        // Act
+        try (var channel = connect()) {
+            requests.flip();
+            // The server stops reading while its responses are unread, so the requests are written on another thread
+            var writer = CompletableFuture.runAsync(() -> {
+                try {
+                    while (requests.hasRemaining()) channel.write(requests);
+                }
+                catch (IOException err) {
+                    throw new UncheckedIOException(err);
+                }
+            });
+            // Assert
+            for (int i = 0; i < count; i++) assertSameAttributes(expected[i], readResponseFrame(channel));
+            writer.join();
+        }
+    }
+
+    @Test
+    void givenAnInvalidRectangleAndNoFlags_whenQuerying_thenTheSameErrorsAsTheStringPathAreReturned() throws IOException {
+        // Arrange
+        var request = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + REQUEST_PAYLOAD_SIZE).order(BYTE_ORDER)
+                .putInt(REQUEST_PAYLOAD_SIZE).put((byte) 0)
+                .putDouble(0.0).putDouble(10.0).putDouble(-5.0).putDouble(5.0)
+                .putDouble(3.0).putDouble(8.0).putDouble(5.0).putDouble(0.0)
+                .flip();
+        // Act
+        try (var channel = connect()) {
+            channel.write(request);
+            var response = readResponseFrame(channel);
+            // Assert
+            assertFalse(response.isSuccess());
+            assertEquals(3, response.errors().size());
+            assertArrayEquals(new String[] { "The width must be greater than zero" }, response.errors().get("rectangle1.size.width"));
+            assertArrayEquals(new String[] { "The height must be greater than zero" }, response.errors().get("rectangle2.size.height"));
+            assertTrue(response.errors().containsKey("queryFlags"));
+        }
+    }
+
+    @Test
+    void givenAFrameWithAnUnexpectedLength_whenQuerying_thenAnErrorIsReturnedAndTheConnectionIsClosed() throws IOException {
+        // Arrange
+        var request = ByteBuffer.allocate(LENGTH_PREFIX_SIZE).order(BYTE_ORDER).putInt(7).flip();
+        // Act
+        try (var channel = connect()) {
+            channel.write(request);
+            var response = readResponseFrame(channel);
+            // Assert
+            assertArrayEquals(
+                    new String[] { "Expected a request payload of 65 bytes but found 7" },
+                    response.errors().get("input")
+            );
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    private SocketChannel connect() throws IOException {
+        var channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.connect(UnixDomainSocketAddress.of(server.socketPath()));
+        return channel;
+    }
+
+    private static RectanglesCollisionAttributesResponse readResponseFrame(SocketChannel channel) throws IOException {
+        var length = readFully(channel, LENGTH_PREFIX_SIZE).getInt();
+        return readResponse(readFully(channel, length));
+    }
+
+    private static ByteBuffer readFully(SocketChannel channel, int size) throws IOException {
+        var buffer = ByteBuffer.allocate(size).order(BYTE_ORDER);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("Connection closed");
+        }
+        return buffer.flip();
+    }
+
+    private static void assertSameAttributes(RectanglesCollisionAttributesResponse expected, RectanglesCollisionAttributesResponse actual) {
+        assertEquals(expected.isSuccess(), actual.isSuccess());
+        assertEquals(expected.intersections().isPresent(), actual.intersections().isPresent());
+        expected.intersections().ifPresent(points -> assertArrayEquals(points, actual.intersections().get()));
+        assertEquals(expected.containmentInfo(), actual.containmentInfo());
+        assertEquals(expected.adjacencyList().isPresent(), actual.adjacencyList().isPresent());
+        expected.adjacencyList().ifPresent(list -> assertArrayEquals(list, actual.adjacencyList().get()));
+    }
+
+    private static Rectangle randomRectangle(Random random) {
+        return new Rectangle(
+                new Vector2(random.nextInt(20), random.nextInt(20)),
+                new Size(1 + random.nextInt(10), 1 + random.nextInt(10))
+        );
+    }
+
+    private static RectangleRawData rawData(Rectangle rectangle) {
+        return new RectangleRawData(
+                String.valueOf(rectangle.topLeft().x()), String.valueOf(rectangle.topLeft().y()),
+                String.valueOf(rectangle.size().width()), String.valueOf(rectangle.size().height())
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.Rectangle;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.*;
+
+/**
+ * Relation kernel built on the incubating Vector API, testing as many rectangles per comparison as the
+ * preferred vector shape holds. It evaluates the same comparisons as {@link ScalarRelationKernel}, and IEEE
+ * comparisons are the same in every lane, so the masks match the scalar kernel bit for bit. Rectangles
+ * that do not fill a whole vector are finished by the scalar kernel.
+ */
+public class VectorRelationKernel implements IRelationKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    public void relate(EdgeColumns columns, Rectangle probe, RelationMasks masks) {
+        ScalarRelationKernel.ensureCapacity(columns, masks);
+        masks.clear();
+        double probeLeft = probe.left();
+        double probeRight = probe.right();
+        double probeTop = probe.top();
+        double probeBottom = probe.bottom();
+        var left = columns.left();
+        var right = columns.right();
+        var top = columns.top();
+        var bottom = columns.bottom();
+        int size = columns.size();
+        int lanes = SPECIES.length();
+
+        for (int word = 0; word * Long.SIZE < size; word++) {
+            int from = word * Long.SIZE;
+            int to = Math.min(from + Long.SIZE, size);
+            long containsBits = 0L;
+            long overlapsBits = 0L;
+            long touchesBits = 0L;
+            int i = from;
+            for (; i + lanes <= to; i += lanes) {
+                var l = DoubleVector.fromArray(SPECIES, left, i);
+                var r = DoubleVector.fromArray(SPECIES, right, i);
+                var t = DoubleVector.fromArray(SPECIES, top, i);
+                var b = DoubleVector.fromArray(SPECIES, bottom, i);
+
+                VectorMask<Double> contains = t.compare(GE, probeBottom).and(t.compare(LE, probeTop))
+                        .and(r.compare(GE, probeLeft)).and(r.compare(LE, probeRight))
+                        .and(b.compare(GE, probeBottom)).and(b.compare(LE, probeTop))
+                        .and(l.compare(GE, probeLeft)).and(l.compare(LE, probeRight));
+                VectorMask<Double> overlaps = l.compare(LT, probeRight).and(r.compare(GT, probeLeft))
+                        .and(b.compare(LT, probeTop)).and(t.compare(GT, probeBottom));
+                VectorMask<Double> closedOverlaps = l.compare(LE, probeRight).and(r.compare(GE, probeLeft))
+                        .and(b.compare(LE, probeTop)).and(t.compare(GE, probeBottom));
+
+                int shift = i - from;
+                containsBits |= contains.toLong() << shift;
+                overlapsBits |= overlaps.toLong() << shift;
+                touchesBits |= closedOverlaps.andNot(overlaps).toLong() << shift;
+            }
+            ScalarRelationKernel.relateWord(
+                    columns, probeLeft, probeRight, probeTop, probeBottom,
+                    word, i, to, masks, containsBits, overlapsBits, touchesBits
+            );
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.caleb.rectangles.kernel;
+
+import com.caleb.rectangles.domain.Rectangle;
+import com.caleb.rectangles.domain.Size;
+import com.caleb.rectangles.domain.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorRelationKernelTest {
+
+    private static final double[] EDGE_VALUES = { -0.0, 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+    @Test
+    void givenEdgeValuesSharedWithTheProbe_whenRelating_thenMasksMatchTheScalarKernel() {
+        // Arrange
+        var random = new Random(16);
+        for (int size : new int[] { 0, 1, 7, 63, 64, 65, 130, 1000 }) {
+            var columns = randomColumns(random, size);
+            var probe = new Rectangle(new Vector2(1.0, 4.0), new Size(3.0, 2.0));
+            var expected = new RelationMasks(size);
+            var actual = new RelationMasks(size);
+            // Act
+            new ScalarRelationKernel().relate(columns, probe, expected);
+            new VectorRelationKernel().relate(columns, probe, actual);
+            // Assert
+            assertArrayEquals(expected.contains(), actual.contains());
+            assertArrayEquals(expected.overlaps(), actual.overlaps());
+            assertArrayEquals(expected.touches(), actual.touches());
+        }
+    }
+
+    @Test
+    void givenTheVectorModuleIsLoaded_whenPickingTheFastestKernel_thenTheVectorKernelIsReturned() {
+        // Act
+        var kernel = RelationKernels.fastest();
+        // Assert
+        assertInstanceOf(VectorRelationKernel.class, kernel);
+    }
+
+    private static EdgeColumns randomColumns(Random random, int size) {
+        var left = new double[size];
+        var right = new double[size];
+        var top = new double[size];
+        var bottom = new double[size];
+        for (int i = 0; i < size; i++) {
+            left[i] = EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+            right[i] = EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+            top[i] = EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+            bottom[i] = EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+        }
+        return new EdgeColumns(left, right, top, bottom, size);
+    }
+}